@@ -0,0 +1,42 @@
+// JWT 인증 필터 오버헤드 측정 (k6)
+// 컨트롤러 비용이 거의 없는 인증 필요 경로를 반복 호출해 필터 구간 지연만 비교
+//
+// 실행 순서
+//   1. 관리자 토큰으로 부하 실행
+//        k6 run -e TOKEN=<JWT> -e BASE_URL=http://localhost:8484 loadtest/jwt-filter.js
+//   2. 실행 후 필터 구간 지연 / 캐시 적중률 확인 (관리자 토큰 필요)
+//        GET /actuator/metrics/jwt.filter.auth        (p50 / p99, 필터 내부 검증 시간)
+//        GET /actuator/metrics/jwt.auth.cache?tag=result:hit
+//        GET /actuator/metrics/jwt.auth.cache?tag=result:miss
+//
+// 기대 결과: 같은 토큰 반복 요청에서 miss 는 1회, 이후 요청은 캐시 적중으로 서명 검증(HMAC)과 파서 생성 없이 처리되어
+//           jwt.filter.auth p50 이 마이크로초 단위로 유지됨.
+//           (이전 구조에서는 요청마다 파서 2회 생성 + 서명 검증 2회)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8484';
+const TOKEN = __ENV.TOKEN;
+
+export const options = {
+    scenarios: {
+        filter: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 20),
+            duration: __ENV.DURATION || '30s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const res = http.get(`${BASE_URL}/actuator/health`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+    });
+
+    check(res, {
+        'status 200': (r) => r.status === 200,
+    });
+}
@@ -0,0 +1,60 @@
+// 결제 승인 부하 테스트 (k6)
+// PG 지연 중에도 DB 커넥션 풀(Hikari)에 여유가 있는지 확인
+//
+// 실행 순서
+//   1. 백엔드를 토스 스텁 프로필로 실행 (PG 지연 1.5초)
+//        ./gradlew bootRun --args='--spring.profiles.active=toss-stub'
+//   2. 관리자 토큰으로 부하 실행
+//        k6 run -e TOKEN=<JWT> -e BASE_URL=http://localhost:8484 loadtest/payment-confirm.js
+//   3. 실행 중 커넥션 풀 사용량 확인 (관리자 토큰 필요)
+//        GET /actuator/metrics/hikaricp.connections.active
+//        GET /actuator/metrics/hikaricp.connections.pending
+//
+// 기대 결과: 동시 요청 수(VU)가 풀 크기(10)보다 훨씬 커도 active 커넥션은 PG 지연과 무관하게 낮게 유지되고,
+//           pending 이 0 이어서 다른 API(조회/예매)가 커넥션을 기다리지 않음.
+//           (이전 구조에서는 PG 응답을 기다리는 동안 요청마다 커넥션 1개를 점유해 VU 10 이상에서 바로 포화)
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8484';
+const TOKEN = __ENV.TOKEN;
+
+export const options = {
+    scenarios: {
+        confirm: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 50),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        // 스텁 지연(1.5초) + 짧은 DB 트랜잭션 2회
+        http_req_duration: ['p(95)<2500'],
+    },
+};
+
+export default function () {
+    const id = `${exec.vu.idInTest}-${exec.scenario.iterationInTest}-${Date.now()}`;
+    const body = JSON.stringify({
+        paymentKey: `loadtest_pk_${id}`,
+        orderId: `loadtest_order_${id}`,
+        amount: 14000,
+        userId: 1,
+        bookingId: 1,
+        method: '카드',
+        orderName: '부하 테스트 결제',
+    });
+
+    const res = http.post(`${BASE_URL}/api/payment/confirm`, body, {
+        headers: {
+            'Content-Type': 'application/json',
+            Authorization: `Bearer ${TOKEN}`,
+        },
+    });
+
+    check(res, {
+        'status 200': (r) => r.status === 200,
+    });
+}
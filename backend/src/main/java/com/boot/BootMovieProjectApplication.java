@@ -1,5 +1,8 @@
 package com.boot;
 
+import com.boot.config.ConcurrencyLimitProperties;
+import com.boot.config.LlmCacheProperties;
+import com.boot.config.RateLimitProperties;
 import com.boot.config.TmdbProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -9,7 +12,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 //
 @EnableScheduling
 @SpringBootApplication
-@EnableConfigurationProperties(TmdbProperties.class)
+@EnableConfigurationProperties({TmdbProperties.class, RateLimitProperties.class, ConcurrencyLimitProperties.class,
+        LlmCacheProperties.class})
 public class
 BootMovieProjectApplication {
 
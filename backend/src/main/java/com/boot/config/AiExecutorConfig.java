@@ -0,0 +1,54 @@
+package com.boot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class AiExecutorConfig {
+
+    // LLM(OpenAI) 호출 전용 스레드 풀 (Tomcat 요청 스레드와 분리, 큐가 가득 차면 즉시 거절)
+    // 스레드 수는 동시성 제한 필터의 ai 등급 최대 한도와 맞춤 (필터가 실제 상한)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService aiExecutor(MeterRegistry meterRegistry,
+                                      @Value("${ai.executor.threads:20}") int threads,
+                                      @Value("${ai.executor.queue-capacity:20}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "ai-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        // executor.* 메트릭 (활성 스레드, 큐 길이, 완료/거절 수, 실행/대기 시간)
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "ai", Tags.empty());
+    }
+
+    // TMDB 리뷰 일괄 번역 배치 병렬 실행용 (동시 배치 수 제한, 큐가 가득 차면 스케줄러 스레드가 직접 실행)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService translationExecutor(MeterRegistry meterRegistry,
+                                               @Value("${review-translation.parallelism:4}") int parallelism) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "translate-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "translation", Tags.empty());
+    }
+}
@@ -0,0 +1,37 @@
+package com.boot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔드포인트 등급별 적응형 동시 처리 제한 설정
+ * - 요청 경로는 classes 에 나열된 순서대로 매칭 (먼저 매칭된 등급 적용)
+ * - priority 는 0 이 가장 높음. 상위 등급의 지연이 늘면 하위 등급의 한도를 먼저 줄임
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    // 단기 지연이 장기 지연의 몇 배까지를 정상으로 볼지
+    private double rttTolerance = 1.5;
+    // 한도 변경 반영 비율 (0~1, 클수록 빠르게 반응)
+    private double smoothing = 0.2;
+    private List<EndpointClass> classes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class EndpointClass {
+        private String name;
+        private int priority;
+        private List<String> patterns = new ArrayList<>();
+        private int minLimit = 1;
+        private int maxLimit = 100;
+        private int initialLimit = 20;
+    }
+}
@@ -0,0 +1,26 @@
+package com.boot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LLM 응답 캐시 설정
+ * - ttl: 용도(useCase)별 보관 기간, 목록에 없는 용도는 캐시하지 않음 (무작위성이 있는 프롬프트는 제외)
+ * - mysqlSpill: Redis 에서 밀려난 응답을 MySQL 에서 한 번 더 찾음 (llm_response_cache 테이블 필요)
+ * - maxContentChars: 이보다 긴 응답은 저장하지 않음
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "llm.cache")
+public class LlmCacheProperties {
+
+    private boolean enabled = true;
+    private boolean mysqlSpill = false;
+    private int maxContentChars = 8000;
+    private Map<String, Duration> ttl = new HashMap<>();
+}
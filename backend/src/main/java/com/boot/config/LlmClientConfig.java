@@ -0,0 +1,57 @@
+package com.boot.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM(OpenAI 호환 API) 호출용 HTTP 클라이언트 설정
+ * - 커넥션 풀(재사용) + 연결/풀 대기 타임아웃
+ * - 응답 타임아웃은 LlmGateway 가 호출별 남은 마감 시간으로 요청마다 지정
+ */
+@Configuration
+public class LlmClientConfig {
+
+    @Value("${llm.http.max-connections:32}")
+    private int maxConnections;
+
+    @Value("${llm.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${llm.http.pool-wait-timeout-ms:1000}")
+    private long poolWaitTimeoutMs;
+
+    @Value("${llm.default-deadline-ms:20000}")
+    private long defaultDeadlineMs;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient llmHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(defaultDeadlineMs))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(defaultDeadlineMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                // 재시도는 LlmGateway 가 마감 시간 안에서 직접 처리
+                .disableAutomaticRetries()
+                .build();
+    }
+}
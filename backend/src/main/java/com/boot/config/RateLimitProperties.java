@@ -0,0 +1,33 @@
+package com.boot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 라우트별 요청 제한(토큰 버킷) 설정
+ * - capacity: 버킷 크기 (순간 허용 요청 수)
+ * - refillPerSecond: 초당 보충 토큰 수 (지속 허용 속도)
+ * - methods 를 비우면 모든 메서드에 적용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private List<String> methods = new ArrayList<>();
+        private List<String> patterns = new ArrayList<>();
+        private long capacity;
+        private double refillPerSecond;
+    }
+}
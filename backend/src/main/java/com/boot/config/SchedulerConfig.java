@@ -1,9 +1,32 @@
 package com.boot.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {  //스케줄러 켜기
+
+    // 기본 @Scheduled 작업용 풀 (기본값 1 스레드면 PG 호출/야간 배치가 다른 작업을 모두 밀어냄)
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:8}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    // 대기열 입장 토큰 발급(1초 주기) 전용 스레드 (다른 작업이 오래 걸려도 입장이 멈추지 않도록 분리)
+    @Bean
+    public ThreadPoolTaskScheduler admissionScheduler() {
+        return scheduler("admission-", 1);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
 }
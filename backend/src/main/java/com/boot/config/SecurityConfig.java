@@ -2,8 +2,11 @@ package com.boot.config;
 
 import com.boot.jwt.JwtAuthenticationFilter;
 import com.boot.jwt.JwtTokenProvider;
+import com.boot.security.ConcurrencyLimitFilter;
+import com.boot.security.RateLimitFilter;
 import com.boot.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.boot.service.CustomOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +34,8 @@ public class SecurityConfig {
         private final JwtTokenProvider jwtTokenProvider;
         private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
+        private final RateLimitFilter rateLimitFilter;
+        private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
         @Bean
         public PasswordEncoder passwordEncoder() {
@@ -64,8 +69,14 @@ public class SecurityConfig {
 
                 // 인가 설정
                 .authorizeHttpRequests(authz -> authz
+                        // 비동기 응답(롱 폴링 등) 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // QR 인증 관련 엔드포인트 공개 (가장 먼저 위치)
                         .requestMatchers("/api/qr-auth/**").permitAll()
+                        // 토스페이먼츠 스텁 (toss-stub 프로필에서만 존재)
+                        .requestMatchers("/toss-stub/**").permitAll()
+                        // OpenAI 스텁 (llm-stub 프로필에서만 존재)
+                        .requestMatchers("/llm-stub/**").permitAll()
 
                         // 로그인/회원가입/이메일 인증/소셜 로그인 등 공개
                         .requestMatchers("/api/user/login", "/api/user/signup",
@@ -81,6 +92,7 @@ public class SecurityConfig {
 
                                                 // 관리자 전용
                                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                                                 // GET 요청은 누구나 가능하도록 설정
                                                 .requestMatchers(HttpMethod.GET,
@@ -111,7 +123,11 @@ public class SecurityConfig {
                                                 .successHandler(oAuth2AuthenticationSuccessHandler))
 
                                 // JWT 필터 추가
-                                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                                // 요청 제한 필터 (JWT 인증 이후, 사용자 단위 버킷 사용)
+                                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                                // 등급별 동시 처리 제한 (요청 제한 통과 후)
+                                .addFilterAfter(concurrencyLimitFilter, RateLimitFilter.class);
 
                 return http.build();
         }
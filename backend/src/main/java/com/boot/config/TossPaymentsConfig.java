@@ -0,0 +1,62 @@
+package com.boot.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 토스페이먼츠 호출용 HTTP 클라이언트 설정
+ * - 커넥션 풀(재사용) + 연결/응답/풀 대기 타임아웃
+ * - PG 지연 시에도 요청 스레드가 무한정 묶이지 않도록 응답 타임아웃을 짧게 유지
+ */
+@Configuration
+public class TossPaymentsConfig {
+
+    @Value("${toss.payments.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${toss.payments.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${toss.payments.http.response-timeout-ms:10000}")
+    private long responseTimeoutMs;
+
+    @Value("${toss.payments.http.pool-wait-timeout-ms:1000}")
+    private long poolWaitTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient tossHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate tossRestTemplate(CloseableHttpClient tossHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(tossHttpClient));
+    }
+}
@@ -1,12 +1,29 @@
 package com.boot.controller;
 
+import com.boot.dto.ReconciliationStatusDto;
+import com.boot.dto.SalesStatDto;
+import com.boot.dto.SlotGenerationResultDto;
 import com.boot.dto.UserAdminDto;
+import com.boot.entity.ReconciliationDiscrepancy;
+import com.boot.repository.ReconciliationDiscrepancyRepository;
+import com.boot.service.PaymentReconciliationService;
+import com.boot.service.SalesRollupService;
+import com.boot.service.ShowtimeArchiveService;
+import com.boot.service.ShowtimeSlotGenerator;
+import com.boot.service.ShowtimeTimetableService;
+import com.boot.service.TheaterRegistry;
 import com.boot.service.UserService;
+import com.boot.service.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -14,6 +31,14 @@ import java.util.List;
 public class AdminController {
 
     private final UserService userService;
+    private final WaitingRoomService waitingRoomService;
+    private final ShowtimeTimetableService showtimeTimetableService;
+    private final TheaterRegistry theaterRegistry;
+    private final ShowtimeSlotGenerator showtimeSlotGenerator;
+    private final ShowtimeArchiveService showtimeArchiveService;
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final ReconciliationDiscrepancyRepository reconciliationDiscrepancyRepository;
+    private final SalesRollupService salesRollupService;
 
     @GetMapping("/users")
     public ResponseEntity<List<UserAdminDto>> getAllUsers() {
@@ -29,4 +54,140 @@ public class AdminController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // 대기열 핫 모드 대상 목록
+    @GetMapping("/waiting-room/hot")
+    public ResponseEntity<Set<String>> getHotTargets() {
+        return ResponseEntity.ok(waitingRoomService.getHotTargets());
+    }
+
+    // 대기열 핫 모드 지정 (movieId 또는 showtimeId)
+    @PutMapping("/waiting-room/hot")
+    public ResponseEntity<String> enableHotMode(@RequestParam(required = false) String movieId,
+                                                @RequestParam(required = false) Long showtimeId) {
+        try {
+            return ResponseEntity.ok(waitingRoomService.enableHotMode(movieId, showtimeId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 대기열 핫 모드 해제
+    @DeleteMapping("/waiting-room/hot")
+    public ResponseEntity<String> disableHotMode(@RequestParam(required = false) String movieId,
+                                                 @RequestParam(required = false) Long showtimeId) {
+        try {
+            return ResponseEntity.ok(waitingRoomService.disableHotMode(movieId, showtimeId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 시간표 읽기 모델 즉시 재구성 (ETL 로 시간표/영화 데이터를 다시 넣은 경우)
+    @PostMapping("/timetable/rebuild")
+    public ResponseEntity<String> rebuildTimetable() {
+        int count = showtimeTimetableService.rebuild();
+        return ResponseEntity.ok("시간표 " + count + "건을 재구성했습니다.");
+    }
+
+    // 영화관/상영관 레지스트리 즉시 재적재 (insert_theaters.py / insert_screens.py 실행 후, 위치 인덱스도 함께 갱신)
+    @PostMapping("/theaters/registry/reload")
+    public ResponseEntity<String> reloadTheaterRegistry() {
+        long version = theaterRegistry.reload();
+        return ResponseEntity.ok("영화관 레지스트리를 다시 적재했습니다. (version " + version + ")");
+    }
+
+    // 시간표 슬롯 생성 (기본: 오늘부터 설정된 기간 전체, 이미 있는 슬롯은 건너뜀)
+    @PostMapping("/showtimes/generate")
+    public ResponseEntity<?> generateShowtimes(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam(required = false) Integer days) {
+        try {
+            SlotGenerationResultDto result = (from == null && days == null)
+                    ? showtimeSlotGenerator.generateDefaultWindow()
+                    : showtimeSlotGenerator.generate(from != null ? from : LocalDate.now(), days != null ? days : 1);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 지난 시간표/예매 즉시 보관 처리
+    @PostMapping("/showtimes/archive")
+    public ResponseEntity<String> archiveShowtimes() {
+        int count = showtimeArchiveService.archivePastShowtimes();
+        return ResponseEntity.ok("지난 시간표 " + count + "건을 보관 테이블로 옮겼습니다.");
+    }
+
+    // 결제/예매 대사 비동기 실행 (restart=true 면 진행 중인 실행을 버리고 처음부터), 이미 실행 중이면 409
+    @PostMapping("/reconciliation/run")
+    public ResponseEntity<ReconciliationStatusDto> runReconciliation(@RequestParam(defaultValue = "false") boolean restart) {
+        boolean accepted = paymentReconciliationService.reconcileAsync(restart);
+        ReconciliationStatusDto status = paymentReconciliationService.getStatus(accepted);
+        return accepted ? ResponseEntity.accepted().body(status) : ResponseEntity.status(HttpStatus.CONFLICT).body(status);
+    }
+
+    // 결제/예매 대사 진행 상태
+    @GetMapping("/reconciliation/status")
+    public ResponseEntity<ReconciliationStatusDto> getReconciliationStatus() {
+        return ResponseEntity.ok(paymentReconciliationService.getStatus(false));
+    }
+
+    // 대사 불일치 목록 조회
+    @GetMapping("/reconciliation/{runId}/discrepancies")
+    public ResponseEntity<List<ReconciliationDiscrepancy>> getDiscrepancies(@PathVariable String runId,
+                                                                           @RequestParam(defaultValue = "0") int page,
+                                                                           @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(reconciliationDiscrepancyRepository.findByRunIdOrderByBookingIdAscIdAsc(
+                runId, PageRequest.of(page, Math.min(size, 1000))));
+    }
+
+    // 일자별 판매/점유율 (기본: 최근 7일)
+    @GetMapping("/analytics/daily")
+    public ResponseEntity<?> getDailySales(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body("from 은 to 이전이어야 합니다.");
+        }
+        return ResponseEntity.ok(salesRollupService.getDailyStats(start, end));
+    }
+
+    // 영화별 판매/점유율 (기본: 최근 7일)
+    @GetMapping("/analytics/movies")
+    public ResponseEntity<?> getMovieSales(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body("from 은 to 이전이어야 합니다.");
+        }
+        return ResponseEntity.ok(salesRollupService.getMovieStats(start, end));
+    }
+
+    // 영화관별 판매/점유율 (기본: 최근 7일)
+    @GetMapping("/analytics/theaters")
+    public ResponseEntity<?> getTheaterSales(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body("from 은 to 이전이어야 합니다.");
+        }
+        return ResponseEntity.ok(salesRollupService.getTheaterStats(start, end));
+    }
+
+    // 특정 일자의 시간표별 판매/점유율
+    @GetMapping("/analytics/showtimes")
+    public ResponseEntity<List<SalesStatDto>> getShowtimeSales(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                               @RequestParam(required = false) String movieId) {
+        return ResponseEntity.ok(salesRollupService.getShowtimeStats(date, movieId));
+    }
+
+    // 판매 롤업 전체 재구성
+    @PostMapping("/analytics/rebuild")
+    public ResponseEntity<String> rebuildSalesRollup() {
+        salesRollupService.rebuild();
+        return ResponseEntity.ok("판매 롤업을 재구성했습니다.");
+    }
 }
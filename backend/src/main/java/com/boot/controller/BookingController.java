@@ -1,9 +1,11 @@
 package com.boot.controller;
 
+import com.boot.dto.BookingHistoryPageDto;
 import com.boot.dto.BookingMovieDto;
 import com.boot.dto.BookingRequestDto;
 import com.boot.dto.BookingResponseDto;
 import com.boot.service.BookingService;
+import com.boot.service.WaitingRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,7 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final WaitingRoomService waitingRoomService;
 
     @Operation(summary = "예매 가능한 영화 목록 조회", description = "지역별 실제 상영 중인 영화 목록을 조회합니다.")
     @GetMapping("/movies")
@@ -28,14 +31,28 @@ public class BookingController {
 
     @Operation(summary = "예매 생성", description = "새로운 예매를 생성합니다.")
     @PostMapping
-    public ResponseEntity<BookingResponseDto> createBooking(@RequestBody BookingRequestDto request) {
+    public ResponseEntity<BookingResponseDto> createBooking(@RequestBody BookingRequestDto request,
+                                                            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken) {
+        // 핫 모드 시간표는 대기열 입장 토큰이 있어야 예매 가능 (검증과 동시에 소진, 토큰 1개당 예매 1건)
+        WaitingRoomService.AdmissionClaim claim =
+                waitingRoomService.claimAdmission(request.getShowtimeId(), admissionToken);
+        if (claim == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        boolean booked = false;
         try {
             BookingResponseDto booking = bookingService.createBooking(request);
+            booked = true;
             return ResponseEntity.status(HttpStatus.CREATED).body(booking);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).build(); // 좌석 부족
+        } finally {
+            // 예매 실패 시 입장 토큰을 되돌려 다시 시도할 수 있게 함
+            if (!booked) {
+                waitingRoomService.restoreAdmission(claim);
+            }
         }
     }
 
@@ -46,6 +63,18 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @Operation(summary = "사용자별 예매 내역 페이지 조회", description = "최신순 키셋 페이지로 예매 내역을 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/user/{userId}/history")
+    public ResponseEntity<BookingHistoryPageDto> getUserBookingHistory(@PathVariable("userId") Long userId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(bookingService.getUserBookingHistory(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "예매 상세 조회", description = "예매 ID로 상세 정보를 조회합니다.")
     @GetMapping("/{bookingId}")
     public ResponseEntity<BookingResponseDto> getBookingDetail(@PathVariable Long bookingId) {
@@ -0,0 +1,86 @@
+package com.boot.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬/부하 테스트용 OpenAI chat/completions 스텁 (llm-stub 프로필에서만 활성화)
+ * - 설정한 지연(latency-ms)만큼 기다린 뒤 응답, failure-rate 비율만큼 503 반환
+ * - JSON 모드 요청에는 퀵매치/리뷰 요약에서 쓰는 키를 모두 담은 JSON 객체를 반환
+ *   (일괄 번역 요청이면 입력 id 마다 번역 결과를 담은 translations 배열)
+ * - llm.base-url 을 이 스텁으로 지정해 LLM 지연/장애 상황을 재현
+ */
+@Profile("llm-stub")
+@RestController
+@RequestMapping("/llm-stub/v1")
+public class LlmStubController {
+
+    private static final String STUB_JSON = """
+            {"reasons":["스텁 추천 이유입니다.","스텁 추천 이유입니다.","스텁 추천 이유입니다.","스텁 추천 이유입니다.","스텁 추천 이유입니다."],\
+            "tasteType":"스텁 취향 타입","keywords":["스텁","테스트"],"reason":"스텁 대체 추천 이유입니다.",\
+            "goodPoints":"스텁 장점 요약","badPoints":"스텁 단점 요약","overall":"스텁 한줄평",\
+            "positiveRatio":0.6,"negativeRatio":0.2,"neutralRatio":0.2}""";
+
+    private static final Pattern ITEM_ID = Pattern.compile("\"id\":(\\d+)");
+
+    @Value("${llm.stub.latency-ms:800}")
+    private long latencyMs;
+
+    @Value("${llm.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    @PostMapping("/chat/completions")
+    public ResponseEntity<Map<String, Object>> completions(@RequestBody Map<String, Object> body) throws InterruptedException {
+        Thread.sleep(latencyMs);
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", Map.of("message", "stub failure")));
+        }
+
+        String content = body.containsKey("response_format") ? jsonContent(body) : "스텁 번역 결과입니다.";
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", "stub-" + System.nanoTime());
+        response.put("model", body.get("model"));
+        response.put("choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop")));
+        response.put("usage", Map.of(
+                "prompt_tokens", 100,
+                "completion_tokens", 50,
+                "total_tokens", 150));
+        return ResponseEntity.ok(response);
+    }
+
+    // 일괄 번역 요청(user 프롬프트의 items)이면 id 별 번역 결과, 아니면 공통 JSON
+    @SuppressWarnings("unchecked")
+    private String jsonContent(Map<String, Object> body) {
+        List<Map<String, Object>> messages = (List<Map<String, Object>>) body.get("messages");
+        String userPrompt = String.valueOf(messages.get(messages.size() - 1).get("content"));
+        if (!userPrompt.contains("\"translations\"")) {
+            return STUB_JSON;
+        }
+        StringBuilder sb = new StringBuilder("{\"translations\":[");
+        Matcher matcher = ITEM_ID.matcher(userPrompt.substring(userPrompt.indexOf("\"items\"")));
+        boolean first = true;
+        while (matcher.find()) {
+            if (!first) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(matcher.group(1)).append(",\"text\":\"스텁 번역 결과입니다.\"}");
+            first = false;
+        }
+        return sb.append("]}").toString();
+    }
+}
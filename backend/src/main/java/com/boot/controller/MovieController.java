@@ -6,7 +6,7 @@ import java.time.LocalDate;
 import com.boot.dto.MovieDoc;
 import com.boot.dto.MovieSearchRequest;
 import com.boot.dto.MovieSearchResponse;
-import com.boot.service.UserService;
+import com.boot.service.CurrentUserService;
 import com.boot.service.MovieSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -25,15 +25,10 @@ import java.util.List;
 public class MovieController {
 
     private final MovieSearchService movieSearchService;
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
 
     private boolean isAdult(UserDetails userDetails) {
-        if(userDetails != null){
-            return userService.findByEmail(userDetails.getUsername())
-                    .map(user->user.getAge() >= 19)
-                    .orElse(false);
-        }
-        return false;
+        return currentUserService.isAdult(userDetails);
     }
 
     // [추가] 반복되는 MovieSearchRequest 생성을 위한 헬퍼 메서드
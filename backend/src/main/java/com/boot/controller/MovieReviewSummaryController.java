@@ -3,12 +3,14 @@ package com.boot.controller;
 import com.boot.dto.ReviewListResponse;
 import com.boot.dto.ReviewSummaryDto;
 import com.boot.dto.ReviewWithSummaryResponse;
+import com.boot.service.AiRequestExecutor;
 import com.boot.service.MovieReviewQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/movies")
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class MovieReviewSummaryController {
 
     private final MovieReviewQueryService movieReviewQueryService;
+    private final AiRequestExecutor aiRequestExecutor;
 
     // 1) 리뷰 리스트만 (대표 N개)
     @GetMapping("/{movieId}/reviews")
@@ -25,15 +28,15 @@ public class MovieReviewSummaryController {
         return movieReviewQueryService.getReviewList(movieId, limit);
     }
 
-    // 2) 요약만
+    // 2) 요약만 (AI 호출, 전용 풀에서 비동기 처리)
     @GetMapping("/{movieId}/review-summary")
-    public ReviewSummaryDto getReviewSummary(@PathVariable("movieId") String movieId) {
-        return movieReviewQueryService.getSummaryOnly(movieId);
+    public DeferredResult<ReviewSummaryDto> getReviewSummary(@PathVariable("movieId") String movieId) {
+        return aiRequestExecutor.submit(() -> movieReviewQueryService.getSummaryOnly(movieId));
     }
 
-    // 내부 리뷰 + TMDB 리뷰 + AI 요약을 한 번에 돌려주는 API
+    // 내부 리뷰 + TMDB 리뷰 + AI 요약을 한 번에 돌려주는 API (AI 호출, 전용 풀에서 비동기 처리)
     @GetMapping("/{movieId}/reviews-with-summary")
-    public ReviewWithSummaryResponse getReviewsWithSummary(@PathVariable("movieId") String movieId) {
-        return movieReviewQueryService.getReviewsWithSummary(movieId);
+    public DeferredResult<ReviewWithSummaryResponse> getReviewsWithSummary(@PathVariable("movieId") String movieId) {
+        return aiRequestExecutor.submit(() -> movieReviewQueryService.getReviewsWithSummary(movieId));
     }
 }
@@ -3,8 +3,7 @@ package com.boot.controller;
 import java.util.List;
 
 import com.boot.dto.*;
-import com.boot.entity.User;
-import com.boot.service.UserService;
+import com.boot.service.CurrentUserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,21 +29,14 @@ import lombok.extern.slf4j.Slf4j;
 public class MovieSearchController {
 
     private final MovieSearchService movieSearchService;
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
 
     @Operation(summary = "영화 검색 API", description = "검색어 + 필터(장르, 최신작, 평점, 기간) + 랭킹/부스팅 적용 검색 API")
     @GetMapping("/search")
     public MovieSearchResponse search(MovieSearchRequest request, @AuthenticationPrincipal UserDetails userDetails) {
         log.info("Search request: {}", request);
-        boolean isAdult = false;
-
-        if(userDetails !=null){
-            User user = userService.findByEmail(userDetails.getUsername()).orElse(null);
-            if( user!=null && user.getAge() >= 19){
-                isAdult = true;
-            }
-        }
-        request.setAdult(isAdult);
+        // 연령대는 JWT 클레임에서 판단 (DB 조회 없음)
+        request.setAdult(currentUserService.isAdult(userDetails));
         return movieSearchService.search(request);
     }
 
@@ -28,6 +28,11 @@ public class PaymentController {
         try {
             Map<String, Object> result = paymentService.confirmPayment(request);
             return ResponseEntity.ok(result);
+        } catch (PaymentService.PaymentInProgressException e) {
+            // 같은 결제 승인이 처리 중: PG 재호출 없이 409, 클라이언트는 결제 상태 조회로 확인
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
         } catch (Exception e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", e.getMessage());
@@ -3,9 +3,11 @@ package com.boot.controller;
 import com.boot.dto.QrAuthRequest;
 import com.boot.dto.QrAuthResponse;
 import com.boot.dto.QrSessionStatusResponse;
+import com.boot.dto.QrSessionStatusResponse.QrAuthStatus;
 import com.boot.service.QrAuthService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/qr-auth")
@@ -56,4 +58,15 @@ public class QrAuthController {
         QrSessionStatusResponse statusResponse = qrAuthService.getSessionStatus(sessionId);
         return ResponseEntity.ok(statusResponse);
     }
+
+    /**
+     * 세션 상태가 바뀔 때까지 기다렸다가 응답합니다. (롱 폴링)
+     * since 에 클라이언트가 알고 있는 상태를 전달하면, 그 상태에서 바뀌는 즉시 응답하고
+     * 타임아웃 시에는 현재 상태를 반환하므로 클라이언트는 같은 요청을 반복하면 됩니다.
+     */
+    @GetMapping("/status/{sessionId}/wait")
+    public DeferredResult<QrSessionStatusResponse> waitQrSessionStatus(@PathVariable String sessionId,
+                                                                       @RequestParam(defaultValue = "PENDING") QrAuthStatus since) {
+        return qrAuthService.awaitSessionStatus(sessionId, since);
+    }
 }
@@ -5,6 +5,7 @@ import com.boot.service.QrLoginService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/qr-login")
@@ -35,6 +36,16 @@ public class QrLoginController {
         return ResponseEntity.ok(session);
     }
 
+    /**
+     * QR 로그인 세션 상태가 바뀔 때까지 기다렸다가 응답합니다. (롱 폴링)
+     * 타임아웃 시 현재 상태(PENDING)를 반환하므로 프론트엔드는 같은 요청을 반복하면 됩니다.
+     * 세션이 없거나 만료되면 본문 없이 응답합니다.
+     */
+    @GetMapping("/status/{sessionId}/wait")
+    public DeferredResult<QrSessionDto> waitSessionStatus(@PathVariable String sessionId) {
+        return qrLoginService.awaitSessionStatus(sessionId);
+    }
+
     /**
      * (시뮬레이션용) 모바일 기기에서 QR 코드를 스캔한 후 호출되는 API.
      * 실제 앱에서는 인증된 사용자의 토큰을 Authorization 헤더에 담아 요청해야 합니다.
@@ -4,10 +4,12 @@ import com.boot.dto.*;
 import com.boot.dto.QuickMatchAlternativeRequest;
 import com.boot.entity.QuickMatchFeedback;
 import com.boot.entity.QuickMatchSession;
+import com.boot.service.AiRequestExecutor;
 import com.boot.service.QuickMatchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/quickmatch")
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class QuickMatchController {
 
     private final QuickMatchService quickMatchService;
+    private final AiRequestExecutor aiRequestExecutor;
 
     // TODO: 실제로는 SecurityContext에서 userId 꺼내야 함.
     // 지금은 테스트용으로 하드코딩. 나중에 JWT 붙여서 바꾸면 됨.
@@ -100,27 +103,27 @@ public class QuickMatchController {
     /**
      * 퀵매칭 결과 조회
      * GET /api/quickmatch/result?sessionId=...
+     * (AI 추천 호출, 전용 풀에서 비동기 처리)
      */
     @GetMapping("/result")
-    public QuickMatchResultResponse getResult(@RequestParam String sessionId) {
-        return quickMatchService.getResult(sessionId);
+    public DeferredResult<QuickMatchResultResponse> getResult(@RequestParam String sessionId) {
+        return aiRequestExecutor.submit(() -> quickMatchService.getResult(sessionId));
     }
 
     /**
      * 대안 영화 추천 받기
      * POST /api/quickmatch/alternative
+     * (AI 추천 호출, 전용 풀에서 비동기 처리)
      */
     @PostMapping("/alternative")
-    public ResponseEntity<QuickMatchRecommendationDto> getAlternative(
+    public DeferredResult<ResponseEntity<QuickMatchRecommendationDto>> getAlternative(
             @RequestBody QuickMatchAlternativeRequest request
     ) {
-        QuickMatchRecommendationDto dto =
+        return aiRequestExecutor.submit(() -> ResponseEntity.ok(
                 quickMatchService.getAlternativeRecommendation(
                         request.getSessionId(),
                         request.getCurrentMovieId()
-                );
-
-        return ResponseEntity.ok(dto);
+                )));
     }
 
 }
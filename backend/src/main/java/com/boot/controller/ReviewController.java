@@ -3,8 +3,9 @@ package com.boot.controller;
 import com.boot.dto.ReviewRequestDto;
 import com.boot.dto.ReviewResponseDto;
 import com.boot.entity.Review;
+import com.boot.dto.UserIdentity;
+import com.boot.service.CurrentUserService;
 import com.boot.service.ReviewService;
-import com.boot.entity.User; // User import 추가
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final CurrentUserService currentUserService;
 
     @Operation(summary = "새 리뷰 작성", description = "영화에 대한 새로운 리뷰를 작성합니다.")
     @PostMapping
@@ -81,10 +83,10 @@ public class ReviewController {
     public ResponseEntity<ReviewResponseDto> getMyReviewForMovie(@PathVariable("movieId") String movieId) {
         try {
             String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-            User currentUser = reviewService.getUserService().findByEmail(userEmail)
+            UserIdentity currentUser = currentUserService.findIdentity(userEmail)
                     .orElseThrow(() -> new NoSuchElementException("로그인된 사용자를 찾을 수 없습니다."));
 
-            Optional<Review> review = reviewService.getUserReviewForMovie(movieId, currentUser.getId());
+            Optional<Review> review = reviewService.getUserReviewForMovie(movieId, currentUser.id());
 
             return review.map(ReviewResponseDto::fromEntity)
                     .map(ResponseEntity::ok)
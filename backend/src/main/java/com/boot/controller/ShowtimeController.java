@@ -1,6 +1,7 @@
 package com.boot.controller;
 
 import com.boot.dto.ShowtimeResponseDto;
+import com.boot.dto.ShowtimeSlotDto;
 import com.boot.service.ShowtimeService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -56,6 +57,32 @@ public class ShowtimeController {
         return ResponseEntity.ok(showtimes);
     }
 
+    @Operation(summary = "내 주변 시간표 조회", description = "위도/경도 기준 반경(km) 안 영화관에서 N시간 안에 시작하는 시간표를 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<List<ShowtimeResponseDto>> getShowtimesNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radius,
+            @RequestParam(defaultValue = "3") int hours,
+            @RequestParam(required = false) String movieId
+    ) {
+        return ResponseEntity.ok(showtimeService.getShowtimesNearby(lat, lng, radius, hours, movieId));
+    }
+
+    @Operation(summary = "곧 시작하는 시간표 조회", description = "영화의 N시간 안에 시작하는 시간표를 지역/체인/상영관 타입으로 필터링해 조회합니다.")
+    @GetMapping("/starting-soon")
+    public ResponseEntity<List<ShowtimeSlotDto>> getStartingSoon(
+            @RequestParam String movieId,
+            @RequestParam(defaultValue = "3") int hours,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String chain,
+            @RequestParam(required = false) String screenType,
+            @RequestParam(defaultValue = "false") boolean includeSoldOut,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(showtimeService.getStartingSoon(movieId, hours, region, chain, screenType, includeSoldOut, limit));
+    }
+
     @Operation(summary = "시간표 상세 조회", description = "시간표 ID로 상세 정보를 조회합니다.")
     @GetMapping("/{showtimeId}")
     public ResponseEntity<ShowtimeResponseDto> getShowtimeDetail(@PathVariable Long showtimeId) {
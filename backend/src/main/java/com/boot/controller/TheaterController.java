@@ -1,9 +1,8 @@
 package com.boot.controller;
 
+import com.boot.dto.NearbyTheaterDto;
 import com.boot.dto.ScreenDto;
 import com.boot.dto.TheaterDto;
-import com.boot.entity.Screen;
-import com.boot.repository.ScreenRepository;
 import com.boot.service.TheaterService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/theaters")
@@ -19,17 +17,19 @@ import java.util.stream.Collectors;
 public class TheaterController {
 
     private final TheaterService theaterService;
-    private final ScreenRepository screenRepository;
 
     @Operation(summary = "전체 영화관 목록 조회", description = "모든 영화관 목록을 조회합니다.")
     @GetMapping
     public ResponseEntity<List<TheaterDto>> getAllTheaters(
             @RequestParam(required = false) String region,
-            @RequestParam(required = false) String chain
+            @RequestParam(required = false) String chain,
+            @RequestParam(required = false) String city
     ) {
         List<TheaterDto> theaters;
 
-        if (region != null && chain != null) {
+        if (city != null) {
+            theaters = theaterService.getTheatersByCity(city);
+        } else if (region != null && chain != null) {
             theaters = theaterService.getTheatersByRegionAndChain(region, chain);
         } else if (region != null) {
             theaters = theaterService.getTheatersByRegion(region);
@@ -42,6 +42,26 @@ public class TheaterController {
         return ResponseEntity.ok(theaters);
     }
 
+    @Operation(summary = "주변 영화관 조회", description = "위도/경도 기준 반경(km) 안의 영화관을 가까운 순으로 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyTheaterDto>> getNearbyTheaters(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radius,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(theaterService.getNearbyTheaters(lat, lng, radius, limit));
+    }
+
+    @Operation(summary = "영화관 이름 검색", description = "영화관 이름(또는 이름의 단어) 접두어로 영화관을 검색합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<List<TheaterDto>> searchTheaters(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(theaterService.searchTheaters(q, limit));
+    }
+
     @Operation(summary = "특정 영화관 조회", description = "영화관 ID로 영화관 정보를 조회합니다.")
     @GetMapping("/{theaterId}")
     public ResponseEntity<TheaterDto> getTheaterById(@PathVariable Long theaterId) {
@@ -52,10 +72,6 @@ public class TheaterController {
     @Operation(summary = "영화관의 상영관 목록 조회", description = "특정 영화관의 모든 상영관 목록을 조회합니다.")
     @GetMapping("/{theaterId}/screens")
     public ResponseEntity<List<ScreenDto>> getScreensByTheater(@PathVariable Long theaterId) {
-        List<Screen> screens = screenRepository.findByTheaterId(theaterId);
-        List<ScreenDto> screenDtos = screens.stream()
-                .map(ScreenDto::fromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(screenDtos);
+        return ResponseEntity.ok(theaterService.getScreensByTheater(theaterId));
     }
 }
@@ -0,0 +1,55 @@
+package com.boot.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬/부하 테스트용 토스페이먼츠 스텁 (toss-stub 프로필에서만 활성화)
+ * - 설정한 지연(latency-ms)만큼 기다린 뒤 승인/취소 성공 응답을 반환
+ * - toss.payments.base-url 을 이 스텁으로 지정해 PG 지연 상황을 재현
+ */
+@Profile("toss-stub")
+@RestController
+@RequestMapping("/toss-stub/v1/payments")
+public class TossStubController {
+
+    @Value("${toss.stub.latency-ms:1500}")
+    private long latencyMs;
+
+    @PostMapping("/confirm")
+    public ResponseEntity<Map<String, Object>> confirm(@RequestBody Map<String, Object> body) throws InterruptedException {
+        Thread.sleep(latencyMs);
+        Map<String, Object> response = new HashMap<>(body);
+        response.put("status", "DONE");
+        response.put("method", "카드");
+        response.put("approvedAt", OffsetDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{paymentKey}")
+    public ResponseEntity<Map<String, Object>> get(@PathVariable String paymentKey) throws InterruptedException {
+        Thread.sleep(latencyMs);
+        Map<String, Object> response = new HashMap<>();
+        response.put("paymentKey", paymentKey);
+        response.put("status", "DONE");
+        response.put("approvedAt", OffsetDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{paymentKey}/cancel")
+    public ResponseEntity<Map<String, Object>> cancel(@PathVariable String paymentKey,
+                                                      @RequestBody Map<String, Object> body) throws InterruptedException {
+        Thread.sleep(latencyMs);
+        Map<String, Object> response = new HashMap<>();
+        response.put("paymentKey", paymentKey);
+        response.put("status", "CANCELED");
+        response.put("cancelReason", body.get("cancelReason"));
+        return ResponseEntity.ok(response);
+    }
+}
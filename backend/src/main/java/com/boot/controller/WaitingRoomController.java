@@ -0,0 +1,28 @@
+package com.boot.controller;
+
+import com.boot.dto.WaitingRoomStatusDto;
+import com.boot.service.WaitingRoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Operation(summary = "대기열 진입", description = "핫 모드 시간표 예매 전 대기열에 진입합니다. 핫 모드가 아니면 OPEN 을 반환합니다.")
+    @PostMapping("/enter")
+    public ResponseEntity<WaitingRoomStatusDto> enter(@RequestParam Long showtimeId) {
+        return ResponseEntity.ok(waitingRoomService.enter(showtimeId));
+    }
+
+    @Operation(summary = "대기 상태 조회", description = "대기 순번과 예상 대기 시간을 조회합니다. 입장 시 입장 토큰을 반환합니다.")
+    @GetMapping("/status/{queueId}")
+    public ResponseEntity<WaitingRoomStatusDto> getStatus(@PathVariable String queueId) {
+        return ResponseEntity.ok(waitingRoomService.getStatus(queueId));
+    }
+}
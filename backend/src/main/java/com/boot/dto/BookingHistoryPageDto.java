@@ -0,0 +1,18 @@
+package com.boot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 예매 내역 키셋 페이지 응답 DTO
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class BookingHistoryPageDto {
+    private List<BookingResponseDto> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,40 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예매 내역 페이지 조회용 프로젝션 (booking + showtime + screen + theater 를 SQL 조인으로 한 번에 조회)
+ * - 보관 테이블 조회 시에는 상영관/영화관 컬럼 없이 screenId 만 채움 (레지스트리에서 보충)
+ */
+@Getter
+@AllArgsConstructor
+public class BookingHistoryRow {
+    private Long bookingId;
+    private String bookingStatus;
+    private String seats;
+    private Integer seatCount;
+    private Integer totalPrice;
+    private LocalDateTime createdAt;
+    private Long showtimeId;
+    private String movieId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long screenId;
+    private String screenName;
+    private String screenType;
+    private Long theaterId;
+    private String theaterName;
+    private String theaterChain;
+    private String theaterAddress;
+
+    // 보관 테이블용 (상영관/영화관 정보 없음)
+    public BookingHistoryRow(Long bookingId, String bookingStatus, String seats, Integer seatCount, Integer totalPrice,
+                             LocalDateTime createdAt, Long showtimeId, String movieId,
+                             LocalDateTime startTime, LocalDateTime endTime, Long screenId) {
+        this(bookingId, bookingStatus, seats, seatCount, totalPrice, createdAt, showtimeId, movieId,
+                startTime, endTime, screenId, null, null, null, null, null, null);
+    }
+}
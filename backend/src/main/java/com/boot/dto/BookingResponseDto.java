@@ -1,6 +1,9 @@
 package com.boot.dto;
 
 import com.boot.entity.Booking;
+import com.boot.entity.BookingArchive;
+import com.boot.entity.ShowtimeArchive;
+import com.boot.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -72,4 +75,89 @@ public class BookingResponseDto {
                 .screenType(booking.getShowtime().getScreen().getScreenType())
                 .build();
     }
+
+    // 영화관 레지스트리의 상영관/영화관 정보로 변환 (Screen/Theater 지연 로딩 없음)
+    public static BookingResponseDto fromEntity(Booking booking, ScreenDto screen, TheaterDto theater) {
+        return BookingResponseDto.builder()
+                .bookingId(booking.getId())
+                .bookingStatus(booking.getBookingStatus())
+                .seats(Arrays.asList(booking.getSeats().split(",")))
+                .seatCount(booking.getSeatCount())
+                .totalPrice(booking.getTotalPrice())
+                .createdAt(booking.getCreatedAt())
+                .userId(booking.getUser().getId())
+                .userName(booking.getUser().getName())
+                .userEmail(booking.getUser().getEmail())
+                .showtimeId(booking.getShowtime().getId())
+                .movieId(booking.getShowtime().getMovieId())
+                .startTime(booking.getShowtime().getStartTime())
+                .endTime(booking.getShowtime().getEndTime())
+                .theaterId(theater.getId())
+                .theaterName(theater.getName())
+                .theaterChain(theater.getChain())
+                .theaterAddress(theater.getAddress())
+                .screenId(screen.getId())
+                .screenName(screen.getName())
+                .screenType(screen.getScreenType())
+                .build();
+    }
+
+    // 보관 테이블(booking_archive / showtime_archive)에서 변환 (상영관/영화관 정보가 없으면 비워 둠)
+    public static BookingResponseDto fromArchive(BookingArchive booking, ShowtimeArchive showtime,
+                                                 ScreenDto screen, TheaterDto theater, User user) {
+        BookingResponseDtoBuilder builder = BookingResponseDto.builder()
+                .bookingId(booking.getId())
+                .bookingStatus(booking.getBookingStatus())
+                .seats(Arrays.asList(booking.getSeats().split(",")))
+                .seatCount(booking.getSeatCount())
+                .totalPrice(booking.getTotalPrice())
+                .createdAt(booking.getCreatedAt())
+                .userId(booking.getUserId())
+                .userName(user != null ? user.getName() : null)
+                .userEmail(user != null ? user.getEmail() : null)
+                .showtimeId(booking.getShowtimeId());
+        if (showtime != null) {
+            builder.movieId(showtime.getMovieId())
+                    .startTime(showtime.getStartTime())
+                    .endTime(showtime.getEndTime());
+        }
+        if (screen != null) {
+            builder.screenId(screen.getId())
+                    .screenName(screen.getName())
+                    .screenType(screen.getScreenType());
+        }
+        if (theater != null) {
+            builder.theaterId(theater.getId())
+                    .theaterName(theater.getName())
+                    .theaterChain(theater.getChain())
+                    .theaterAddress(theater.getAddress());
+        }
+        return builder.build();
+    }
+
+    // 예매 내역 프로젝션에서 변환 (보관 데이터처럼 상영관/영화관 컬럼이 비어 있으면 레지스트리 정보 사용)
+    public static BookingResponseDto fromHistoryRow(BookingHistoryRow row, ScreenDto screen, TheaterDto theater, User user) {
+        return BookingResponseDto.builder()
+                .bookingId(row.getBookingId())
+                .bookingStatus(row.getBookingStatus())
+                .seats(Arrays.asList(row.getSeats().split(",")))
+                .seatCount(row.getSeatCount())
+                .totalPrice(row.getTotalPrice())
+                .createdAt(row.getCreatedAt())
+                .userId(user != null ? user.getId() : null)
+                .userName(user != null ? user.getName() : null)
+                .userEmail(user != null ? user.getEmail() : null)
+                .showtimeId(row.getShowtimeId())
+                .movieId(row.getMovieId())
+                .startTime(row.getStartTime())
+                .endTime(row.getEndTime())
+                .theaterId(row.getTheaterId() != null ? row.getTheaterId() : theater != null ? theater.getId() : null)
+                .theaterName(row.getTheaterName() != null ? row.getTheaterName() : theater != null ? theater.getName() : null)
+                .theaterChain(row.getTheaterChain() != null ? row.getTheaterChain() : theater != null ? theater.getChain() : null)
+                .theaterAddress(row.getTheaterAddress() != null ? row.getTheaterAddress() : theater != null ? theater.getAddress() : null)
+                .screenId(row.getScreenId())
+                .screenName(row.getScreenName() != null ? row.getScreenName() : screen != null ? screen.getName() : null)
+                .screenType(row.getScreenType() != null ? row.getScreenType() : screen != null ? screen.getScreenType() : null)
+                .build();
+    }
 }
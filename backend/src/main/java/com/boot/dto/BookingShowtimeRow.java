@@ -0,0 +1,21 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예매 페이지 영화 목록 구성을 위한 시간표 프로젝션 (JPQL constructor expression)
+ */
+@Getter
+@AllArgsConstructor
+public class BookingShowtimeRow {
+    private Long showtimeId;
+    private String movieId;
+    private Long theaterId;
+    private String theaterName;
+    private String screenName;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,35 @@
+package com.boot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 위치 기반 주변 영화관 응답 DTO (거리 포함)
+ */
+@Getter
+@Builder
+public class NearbyTheaterDto {
+    private Long id;
+    private String name;
+    private String chain;
+    private String region;
+    private String city;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
+
+    public static NearbyTheaterDto of(TheaterDto theater, double distanceKm) {
+        return NearbyTheaterDto.builder()
+                .id(theater.getId())
+                .name(theater.getName())
+                .chain(theater.getChain())
+                .region(theater.getRegion())
+                .city(theater.getCity())
+                .address(theater.getAddress())
+                .latitude(theater.getLatitude())
+                .longitude(theater.getLongitude())
+                .distanceKm(Math.round(distanceKm * 100) / 100.0)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.boot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제/예매 대사 작업 상태 DTO
+ */
+@Getter
+@Builder
+public class ReconciliationStatusDto {
+    private boolean accepted;     // 이번 요청으로 실행이 시작됐는지 (이미 실행 중이면 false)
+    private boolean running;
+    private String runId;         // 마지막(또는 진행 중인) 실행 ID
+    private String status;        // RUNNING / COMPLETED
+    private long lastKey;         // 처리 완료한 마지막 예매 ID
+    private long discrepancies;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
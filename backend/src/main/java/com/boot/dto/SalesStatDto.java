@@ -0,0 +1,18 @@
+package com.boot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 판매/점유율 집계 응답 DTO (key: 일자 / 영화 ID / 영화관 ID / 시간표 ID)
+ */
+@Getter
+@Builder
+public class SalesStatDto {
+    private String key;
+    private String label;
+    private long seatsSold;
+    private long revenue;
+    private long capacity;
+    private double occupancyRate; // 0.0 ~ 1.0
+}
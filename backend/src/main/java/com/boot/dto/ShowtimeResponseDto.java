@@ -1,6 +1,7 @@
 package com.boot.dto;
 
 import com.boot.entity.Showtime;
+import com.boot.entity.ShowtimeTimetable;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -59,4 +60,52 @@ public class ShowtimeResponseDto {
                 .screenType(showtime.getScreen().getScreenType())
                 .build();
     }
+
+    // 영화관 레지스트리의 상영관/영화관 정보로 변환 (Screen/Theater 지연 로딩 없음)
+    public static ShowtimeResponseDto fromEntity(Showtime showtime, ScreenDto screen, TheaterDto theater) {
+        return ShowtimeResponseDto.builder()
+                .id(showtime.getId())
+                .showtimeId(showtime.getId())
+                .movieId(showtime.getMovieId())
+                .startTime(showtime.getStartTime())
+                .endTime(showtime.getEndTime())
+                .price(showtime.getPrice())
+                .availableSeats(showtime.getAvailableSeats())
+                .totalSeats(screen.getTotalSeats())
+                .theaterId(theater.getId())
+                .theaterName(theater.getName())
+                .theaterChain(theater.getChain())
+                .theaterRegion(theater.getRegion())
+                .theaterAddress(theater.getAddress())
+                .screenId(screen.getId())
+                .screenName(screen.getName())
+                .screenType(screen.getScreenType())
+                .build();
+    }
+
+    // 시간표 읽기 모델에서 변환 (영화 정보까지 포함, ES 조회 불필요)
+    public static ShowtimeResponseDto fromTimetable(ShowtimeTimetable row) {
+        return ShowtimeResponseDto.builder()
+                .id(row.getShowtimeId())
+                .showtimeId(row.getShowtimeId())
+                .movieId(row.getMovieId())
+                .movieTitle(row.getMovieTitle() != null ? row.getMovieTitle() : "Movie ID: " + row.getMovieId())
+                .posterPath(row.getPosterPath())
+                .runtime(row.getRuntime() != null ? row.getRuntime() : 120)
+                .voteAverage(row.getVoteAverage() != null ? row.getVoteAverage() : 0.0)
+                .startTime(row.getStartTime())
+                .endTime(row.getEndTime())
+                .price(row.getPrice())
+                .availableSeats(row.getAvailableSeats())
+                .totalSeats(row.getTotalSeats())
+                .theaterId(row.getTheaterId())
+                .theaterName(row.getTheaterName())
+                .theaterChain(row.getTheaterChain())
+                .theaterRegion(row.getTheaterRegion())
+                .theaterAddress(row.getTheaterAddress())
+                .screenId(row.getScreenId())
+                .screenName(row.getScreenName())
+                .screenType(row.getScreenType())
+                .build();
+    }
 }
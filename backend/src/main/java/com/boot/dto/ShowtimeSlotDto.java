@@ -0,0 +1,42 @@
+package com.boot.dto;
+
+import com.boot.entity.ShowtimeTimetable;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * "곧 시작하는 시간표" 조회용 경량 DTO (메모리 인덱스에 그대로 보관)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ShowtimeSlotDto {
+    private Long showtimeId;
+    private String movieId;
+    private Long theaterId;
+    private String theaterName;
+    private String theaterRegion;
+    private String theaterChain;
+    private String screenType;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Integer price;
+    private Integer availableSeats;
+
+    public static ShowtimeSlotDto fromTimetable(ShowtimeTimetable row) {
+        return ShowtimeSlotDto.builder()
+                .showtimeId(row.getShowtimeId())
+                .movieId(row.getMovieId())
+                .theaterId(row.getTheaterId())
+                .theaterName(row.getTheaterName())
+                .theaterRegion(row.getTheaterRegion())
+                .theaterChain(row.getTheaterChain())
+                .screenType(row.getScreenType())
+                .startTime(row.getStartTime())
+                .endTime(row.getEndTime())
+                .price(row.getPrice())
+                .availableSeats(row.getAvailableSeats())
+                .build();
+    }
+}
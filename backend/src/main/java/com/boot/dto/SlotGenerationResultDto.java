@@ -0,0 +1,23 @@
+package com.boot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 시간표 슬롯 생성 결과 DTO
+ */
+@Getter
+@Builder
+public class SlotGenerationResultDto {
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private int screenCount;
+    private int failedScreens;
+    private long generated;       // 생성 대상 슬롯 수
+    private long inserted;        // 실제로 추가된 슬롯 수
+    private long skipped;         // 이미 있어서 건너뛴 슬롯 수 (screen_id, start_time 중복)
+    private long elapsedMs;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,24 @@
+package com.boot.dto;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * 요청 처리에 필요한 최소 사용자 정보 (현재 사용자 캐시에 보관)
+ * - 나이는 생년월일로 매번 계산하므로 캐시 중 생일이 지나도 정확함
+ */
+public record UserIdentity(Long id, String email, String name, String role, boolean enabled, LocalDate birthDate) {
+
+    public static final int ADULT_AGE = 19;
+
+    public int age() {
+        if (birthDate == null) {
+            return 0;
+        }
+        return Period.between(birthDate, LocalDate.now()).getYears();
+    }
+
+    public boolean isAdult() {
+        return age() >= ADULT_AGE;
+    }
+}
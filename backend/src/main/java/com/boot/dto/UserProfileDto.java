@@ -30,4 +30,13 @@ public class UserProfileDto {
                 .role(user.getRole())
                 .build();
     }
+
+    public static UserProfileDto fromIdentity(UserIdentity identity) {
+        return UserProfileDto.builder()
+                .id(identity.id())
+                .email(identity.email())
+                .name(identity.name())
+                .role(identity.role())
+                .build();
+    }
 }
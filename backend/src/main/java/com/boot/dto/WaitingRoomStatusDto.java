@@ -0,0 +1,21 @@
+package com.boot.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대기열(가상 대기실) 상태 응답 DTO
+ * - OPEN: 대기열이 필요 없는 상태 (핫 모드 아님)
+ * - WAITING: 대기 중 (position / etaSeconds 제공)
+ * - ADMITTED: 입장 허가 (admissionToken 제공)
+ * - EXPIRED: 대기 정보가 없거나 만료됨
+ */
+@Getter
+@Builder
+public class WaitingRoomStatusDto {
+    private String queueId;
+    private String status;
+    private Long position;        // 내 앞에 남은 인원 (0부터)
+    private Long etaSeconds;      // 예상 대기 시간(초)
+    private String admissionToken;
+}
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "booking")
+@Table(name = "booking", indexes = {
+        // 사용자별 예매 내역 키셋 페이지 조회용 (user_id, created_at, id 역순 스캔)
+        @Index(name = "idx_booking_user_created", columnList = "user_id, created_at")
+})
 public class Booking {
 
     @Id
@@ -0,0 +1,54 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상영이 끝난 시간표의 예매 보관 테이블 (cold)
+ * - ShowtimeArchiveService 가 booking 에서 옮겨 옴 (id 유지)
+ * - 사용자 예매 내역 조회 시 booking 과 함께 조회
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "booking_archive", indexes = {
+        @Index(name = "idx_ba_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_ba_showtime_id", columnList = "showtime_id")
+})
+public class BookingArchive {
+
+    @Id
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "showtime_id", nullable = false)
+    private Long showtimeId;
+
+    @Column(name = "seats", nullable = false, columnDefinition = "TEXT")
+    private String seats;
+
+    @Column(name = "seat_count", nullable = false)
+    private Integer seatCount;
+
+    @Column(name = "total_price", nullable = false)
+    private Integer totalPrice;
+
+    @Column(name = "booking_status", nullable = false)
+    private String bookingStatus;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,62 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자 × 영화 × 영화관 판매 롤업 (판매 좌석 / 매출 / 좌석 수 / 회차 수)
+ * - 판매 좌석·매출은 예매 생성/취소 시 증분 갱신, 좌석 수·회차 수는 시간표 생성 후 갱신
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(DailySalesRollup.Key.class)
+@Table(name = "daily_sales_rollup", indexes = {
+        @Index(name = "idx_dsr_movie_date", columnList = "movie_id, show_date"),
+        @Index(name = "idx_dsr_theater_date", columnList = "theater_id, show_date")
+})
+public class DailySalesRollup {
+
+    @Id
+    @Column(name = "show_date", updatable = false)
+    private LocalDate showDate;
+
+    @Id
+    @Column(name = "movie_id", updatable = false)
+    private String movieId;
+
+    @Id
+    @Column(name = "theater_id", updatable = false)
+    private Long theaterId;
+
+    @Column(name = "seats_sold", nullable = false)
+    private Long seatsSold;
+
+    @Column(name = "revenue", nullable = false)
+    private Long revenue;
+
+    @Column(name = "capacity", nullable = false)
+    private Long capacity;
+
+    @Column(name = "showtime_count", nullable = false)
+    private Integer showtimeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate showDate;
+        private String movieId;
+        private Long theaterId;
+    }
+}
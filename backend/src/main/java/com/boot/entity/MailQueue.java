@@ -0,0 +1,107 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (영속 메일 큐)
+ * - 회원가입 트랜잭션 안에서 저장, MailDispatcher 가 비동기로 발송
+ * - 발송 중인 행은 claimedBy + nextAttemptAt(lease 만료 시각)으로 점유 표시 → 다른 노드는 건너뜀
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mail_queue", indexes = {
+        @Index(name = "idx_mq_status_next", columnList = "status, next_attempt_at")
+})
+public class MailQueue {
+
+    public enum Status {
+        PENDING,    // 발송 대기 (재시도 대기 포함)
+        SENT,       // 발송 완료
+        FAILED      // 최대 재시도 초과
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "mail_type", nullable = false)
+    private String mailType; // VERIFICATION
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    public MailQueue(String mailType, String recipient, String subject, String body) {
+        this.mailType = mailType;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    // 발송 완료
+    public void markSent() {
+        this.status = Status.SENT;
+        this.attempts++;
+        this.claimedBy = null;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 실패 기록 후 재시도 예약 (maxAttempts 도달 시 FAILED)
+    public void markRetry(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.claimedBy = null;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
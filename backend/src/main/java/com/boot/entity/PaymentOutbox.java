@@ -0,0 +1,113 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 후속 처리 아웃박스 (현재는 예매 취소에 따른 환불 요청)
+ * - 예매 취소와 같은 트랜잭션에서 저장되고, PaymentRefundWorker 가 비동기로 처리
+ * - idempotencyKey 는 PG 멱등 키로도 사용 (재시도해도 이중 환불 없음)
+ * - 처리 중인 행은 claimedBy + nextAttemptAt(lease 만료 시각)으로 점유 표시 → 다른 노드는 건너뜀
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payment_outbox", indexes = {
+        @Index(name = "idx_po_status_next", columnList = "status, next_attempt_at")
+})
+public class PaymentOutbox {
+
+    public enum Status {
+        PENDING,    // 처리 대기 (재시도 대기 포함)
+        DONE,       // 처리 완료
+        FAILED      // 최대 재시도 초과 (수동 확인 필요)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType; // PAYMENT_CANCEL
+
+    @Column(name = "idempotency_key", nullable = false, unique = true)
+    private String idempotencyKey;
+
+    @Column(name = "payment_key", nullable = false)
+    private String paymentKey;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Builder
+    public PaymentOutbox(String eventType, String idempotencyKey, String paymentKey, Long bookingId, String reason) {
+        this.eventType = eventType;
+        this.idempotencyKey = idempotencyKey;
+        this.paymentKey = paymentKey;
+        this.bookingId = bookingId;
+        this.reason = reason;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    // 처리 완료
+    public void markDone() {
+        this.status = Status.DONE;
+        this.attempts++;
+        this.claimedBy = null;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 실패 기록 후 재시도 예약 (maxAttempts 도달 시 FAILED)
+    public void markRetry(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.claimedBy = null;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대사(reconciliation) 작업 진행 위치 체크포인트
+ * - 작업별 1행, 중단 후 재실행 시 lastKey 다음부터 이어서 처리
+ * - lastSubKey: 한 예매 ID 의 행이 페이지 경계에 걸친 경우 그 안에서 처리한 마지막 행 ID (0 이면 lastKey 전부 처리)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reconciliation_checkpoint")
+public class ReconciliationCheckpoint {
+
+    public enum Status { RUNNING, COMPLETED }
+
+    @Id
+    @Column(name = "job_name", updatable = false)
+    private String jobName;
+
+    @Column(name = "run_id", nullable = false)
+    private String runId;
+
+    @Column(name = "last_key", nullable = false)
+    private Long lastKey;
+
+    @Column(name = "last_sub_key", nullable = false)
+    private long lastSubKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "discrepancies", nullable = false)
+    private long discrepancies;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ReconciliationCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.status = Status.COMPLETED;
+        this.lastKey = 0L;
+        this.runId = "";
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    // 새 실행 시작
+    public void start(String runId) {
+        this.runId = runId;
+        this.lastKey = 0L;
+        this.lastSubKey = 0L;
+        this.discrepancies = 0;
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    // 진행 위치 저장
+    public void advance(long lastKey, long lastSubKey, long newDiscrepancies) {
+        this.lastKey = lastKey;
+        this.lastSubKey = lastSubKey;
+        this.discrepancies += newDiscrepancies;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,57 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제/예매 대사 불일치 기록
+ * - PAYMENT_WITHOUT_BOOKING: 승인(DONE) 결제에 대응하는 예매가 없음
+ * - PAYMENT_BOOKING_NOT_CONFIRMED: 승인 결제의 예매가 확정 상태가 아님 (환불 누락 의심)
+ * - BOOKING_WITHOUT_PAYMENT: 확정 예매에 승인 결제가 없음
+ * - AMOUNT_MISMATCH: 결제 금액과 예매 금액이 다름
+ * - DUPLICATE_PAYMENT: 한 예매에 승인 결제가 여러 건
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reconciliation_discrepancy", indexes = {
+        @Index(name = "idx_rd_run", columnList = "run_id, booking_id")
+})
+public class ReconciliationDiscrepancy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private String runId;
+
+    @Column(name = "type", nullable = false)
+    private String type;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "booking_status")
+    private String bookingStatus;
+
+    @Column(name = "payment_status")
+    private String paymentStatus;
+
+    @Column(name = "booking_amount")
+    private Integer bookingAmount;
+
+    @Column(name = "payment_amount")
+    private Integer paymentAmount;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -13,7 +13,10 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "showtime")
+@Table(name = "showtime", uniqueConstraints = {
+        // 시간표 슬롯 생성기(INSERT IGNORE) 멱등성 보장
+        @UniqueConstraint(name = "uk_showtime_screen_start", columnNames = {"screen_id", "start_time"})
+})
 public class Showtime {
 
     @Id
@@ -0,0 +1,56 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상영이 끝난 시간표 보관 테이블 (cold)
+ * - ShowtimeArchiveService 가 showtime 에서 옮겨 옴 (id 유지)
+ * - 상영관/영화관은 연관관계 없이 ID 로만 보관 (영화관 레지스트리에서 조회)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "showtime_archive", indexes = {
+        @Index(name = "idx_sa_start_time", columnList = "start_time")
+})
+public class ShowtimeArchive {
+
+    @Id
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "movie_id", nullable = false)
+    private String movieId;
+
+    @Column(name = "screen_id", nullable = false)
+    private Long screenId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "price", nullable = false)
+    private Integer price;
+
+    @Column(name = "available_seats", nullable = false)
+    private Integer availableSeats;
+
+    @Column(name = "region")
+    private String region;
+
+    @Column(name = "city")
+    private String city;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
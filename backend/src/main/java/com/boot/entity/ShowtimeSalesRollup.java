@@ -0,0 +1,48 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 시간표별 판매 롤업 (판매 좌석 / 매출 / 좌석 수)
+ * - SalesRollupService 가 예매 생성/취소 시 증분 갱신
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "showtime_sales_rollup", indexes = {
+        @Index(name = "idx_ssr_date_movie", columnList = "show_date, movie_id"),
+        @Index(name = "idx_ssr_date_theater", columnList = "show_date, theater_id")
+})
+public class ShowtimeSalesRollup {
+
+    @Id
+    @Column(name = "showtime_id", updatable = false)
+    private Long showtimeId;
+
+    @Column(name = "show_date", nullable = false)
+    private LocalDate showDate;
+
+    @Column(name = "movie_id", nullable = false)
+    private String movieId;
+
+    @Column(name = "theater_id", nullable = false)
+    private Long theaterId;
+
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+
+    @Column(name = "seats_sold", nullable = false)
+    private Long seatsSold;
+
+    @Column(name = "revenue", nullable = false)
+    private Long revenue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
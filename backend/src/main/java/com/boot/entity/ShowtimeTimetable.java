@@ -0,0 +1,87 @@
+package com.boot.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간표 조회 전용 비정규화 테이블 (읽기 모델)
+ * - showtime + screen + theater + 영화 메타데이터(Elasticsearch)를 한 행에 저장
+ * - ShowtimeTimetableService 가 주기적으로/예매 이벤트로 갱신
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "showtime_timetable", indexes = {
+        @Index(name = "idx_tt_movie_start", columnList = "movie_id, start_time"),
+        @Index(name = "idx_tt_theater_start", columnList = "theater_id, start_time"),
+        @Index(name = "idx_tt_region_movie_start", columnList = "theater_region, movie_id, start_time"),
+        @Index(name = "idx_tt_chain_movie_start", columnList = "theater_chain, movie_id, start_time"),
+        @Index(name = "idx_tt_synced_at", columnList = "synced_at")
+})
+public class ShowtimeTimetable {
+
+    @Id
+    @Column(name = "showtime_id", updatable = false)
+    private Long showtimeId;
+
+    @Column(name = "movie_id", nullable = false)
+    private String movieId;
+
+    @Column(name = "movie_title")
+    private String movieTitle;
+
+    @Column(name = "poster_path")
+    private String posterPath;
+
+    @Column(name = "runtime")
+    private Integer runtime;
+
+    @Column(name = "vote_average")
+    private Double voteAverage;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(name = "price", nullable = false)
+    private Integer price;
+
+    @Column(name = "available_seats", nullable = false)
+    private Integer availableSeats;
+
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+
+    @Column(name = "theater_id", nullable = false)
+    private Long theaterId;
+
+    @Column(name = "theater_name")
+    private String theaterName;
+
+    @Column(name = "theater_chain")
+    private String theaterChain;
+
+    @Column(name = "theater_region")
+    private String theaterRegion;
+
+    @Column(name = "theater_address")
+    private String theaterAddress;
+
+    @Column(name = "screen_id", nullable = false)
+    private Long screenId;
+
+    @Column(name = "screen_name")
+    private String screenName;
+
+    @Column(name = "screen_type")
+    private String screenType;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
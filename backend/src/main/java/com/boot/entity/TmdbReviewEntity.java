@@ -13,6 +13,9 @@ import java.time.LocalDateTime;
                         name = "uk_tmdb_movie_review",
                         columnNames = {"movie_id", "external_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_tmdb_reviews_created_at", columnList = "created_at")
         }
 )
 @Getter
@@ -55,4 +58,15 @@ public class TmdbReviewEntity {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    // 번역 작업 점유 정보 (여러 노드의 번역 워커가 같은 행을 중복 번역하지 않도록, 만료 시각이 지나면 재점유 가능)
+    @Column(name = "translation_claimed_by", length = 64)
+    private String translationClaimedBy;
+
+    @Column(name = "translation_claimed_until")
+    private LocalDateTime translationClaimedUntil;
+
+    // 배치 번역 점유 횟수 (실패할수록 재시도 간격을 늘리고, 최대 횟수에 도달하면 배치 번역 대상에서 제외)
+    @Column(name = "translation_attempts", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int translationAttempts;
 }
@@ -0,0 +1,11 @@
+package com.boot.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예매 생성/취소로 판매 좌석·매출이 바뀌었을 때 발행되는 이벤트
+ * (판매/점유율 롤업 갱신용, 취소는 음수 변화량)
+ */
+public record BookingSalesChangedEvent(Long showtimeId, String movieId, Long screenId, LocalDateTime startTime,
+                                       int seatDelta, int revenueDelta) {
+}
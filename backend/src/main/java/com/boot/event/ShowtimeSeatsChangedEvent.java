@@ -0,0 +1,8 @@
+package com.boot.event;
+
+/**
+ * 예매/취소로 시간표 잔여 좌석이 바뀌었을 때 발행되는 이벤트
+ * (시간표 읽기 모델 등 파생 데이터 갱신용)
+ */
+public record ShowtimeSeatsChangedEvent(Long showtimeId, String movieId, Integer availableSeats) {
+}
@@ -0,0 +1,13 @@
+package com.boot.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간표 읽기 모델 동기화에서 신규/변경 시간표가 반영되었을 때 발행되는 이벤트
+ *
+ * @param changedCount 반영된 시간표 수
+ * @param syncedAt     이번 동기화에서 반영된 행의 synced_at 값
+ * @param fullRebuild  전체 재구성 여부 (true 면 읽기 모델 전체가 교체됨)
+ */
+public record ShowtimesSyncedEvent(int changedCount, LocalDateTime syncedAt, boolean fullRebuild) {
+}
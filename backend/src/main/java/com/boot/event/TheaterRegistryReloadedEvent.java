@@ -0,0 +1,7 @@
+package com.boot.event;
+
+/**
+ * 영화관/상영관 레지스트리가 새 버전으로 교체되었을 때 발행되는 이벤트
+ */
+public record TheaterRegistryReloadedEvent(long version) {
+}
@@ -0,0 +1,7 @@
+package com.boot.event;
+
+/**
+ * 사용자 정보(활성화 여부/삭제 등)가 변경되었을 때 발행되는 이벤트
+ */
+public record UserChangedEvent(String email) {
+}
@@ -4,28 +4,36 @@ import com.boot.dto.TokenInfo;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,17 +41,32 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String AGE_BAND_KEY = "ageBand";
     private final SecretKey key;
     private final long expirationTime;
+    // 파서는 불변/스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+    // 검증 완료 토큰 캐시 (토큰 SHA-256 → principal/권한, 토큰 만료 시각까지 유효, 크기 제한)
+    // 락 없이 조회하고, 요청마다 새 인증 객체를 만들어 요청 간 공유하지 않음
+    private final Map<String, CachedAuthentication> authCache = new ConcurrentHashMap<>();
+    private final int authCacheMaxSize;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
 
     public JwtTokenProvider(@Value("${jwt.secret-key}") String secretKey,
-            @Value("${jwt.expiration-time}") long expirationTime) {
+            @Value("${jwt.expiration-time}") long expirationTime,
+            @Value("${jwt.auth-cache.max-size:10000}") int authCacheMaxSize,
+            MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.authCacheMaxSize = authCacheMaxSize;
+        this.cacheHits = meterRegistry.counter("jwt.auth.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("jwt.auth.cache", "result", "miss");
     }
 
-    // 유저 정보를 가지고 AccessToken을 생성하는 메서드
-    public TokenInfo generateToken(Authentication authentication) {
+    // 유저 정보를 가지고 AccessToken을 생성하는 메서드 (ageBand: 성인 여부 클레임, 없으면 null)
+    public TokenInfo generateToken(Authentication authentication, String ageBand) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -53,6 +76,7 @@ public class JwtTokenProvider {
         String accessToken = Jwts.builder()
                 .subject(authentication.getName())
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(AGE_BAND_KEY, ageBand)
                 .issuedAt(Date.from(now))
                 .expiration(accessTokenExpiresIn)
                 .signWith(key)
@@ -72,12 +96,22 @@ public class JwtTokenProvider {
      * @return 생성된 AccessToken 문자열
      */
     public String createToken(String email, String role) {
+        return createToken(email, role, null);
+    }
+
+    /**
+     * 연령대 클레임을 포함한 AccessToken 생성
+     *
+     * @param ageBand 연령대 (JwtUserPrincipal.AGE_BAND_ADULT / AGE_BAND_MINOR, 모르면 null)
+     */
+    public String createToken(String email, String role, String ageBand) {
         Instant now = Instant.now();
         Date accessTokenExpiresIn = Date.from(now.plusMillis(expirationTime));
 
         return Jwts.builder()
                 .subject(email)
                 .claim(AUTHORITIES_KEY, role)
+                .claim(AGE_BAND_KEY, ageBand)
                 .issuedAt(Date.from(now))
                 .expiration(accessTokenExpiresIn)
                 .signWith(key)
@@ -86,8 +120,65 @@ public class JwtTokenProvider {
 
     // JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return toAuthentication(parseClaims(accessToken));
+    }
+
+    /**
+     * 요청 인증용: 서명 검증과 클레임 파싱을 한 번에 처리하고 결과를 토큰 만료 시각까지 캐시
+     *
+     * @return 유효한 토큰이면 인증 객체, 아니면 null
+     */
+    public Authentication resolveAuthentication(String token) {
+        String cacheKey = hash(token);
+        long now = System.currentTimeMillis();
+        CachedAuthentication cached = authCache.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                cacheHits.increment();
+                return new UsernamePasswordAuthenticationToken(cached.principal(), "", cached.principal().getAuthorities());
+            }
+            authCache.remove(cacheKey, cached);
+        }
+
+        cacheMisses.increment();
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            log.info("Expired JWT Token: {}", e.getMessage());
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Invalid JWT Token: {}", e.getMessage());
+            return null;
+        }
+        if (claims.get(AUTHORITIES_KEY) == null) {
+            log.info("권한 정보가 없는 토큰입니다.");
+            return null;
+        }
+
+        Authentication authentication = toAuthentication(claims);
+        if (claims.getExpiration() != null) {
+            authCache.put(cacheKey, new CachedAuthentication((UserDetails) authentication.getPrincipal(),
+                    claims.getExpiration().getTime()));
+            if (authCache.size() > authCacheMaxSize) {
+                evictOverflow(now);
+            }
+        }
+        return authentication;
+    }
 
+    // 크기 초과 시 만료 항목부터 제거하고, 그래도 많으면 최대 크기의 90% 까지 임의 항목 제거
+    private void evictOverflow(long now) {
+        authCache.values().removeIf(entry -> entry.expiresAt() <= now);
+        int target = authCacheMaxSize * 9 / 10;
+        Iterator<String> keys = authCache.keySet().iterator();
+        while (authCache.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private Authentication toAuthentication(Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -97,17 +188,15 @@ public class JwtTokenProvider {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        UserDetails principal = new JwtUserPrincipal(claims.getSubject(), authorities,
+                claims.get(AGE_BAND_KEY, String.class));
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
@@ -128,25 +217,36 @@ public class JwtTokenProvider {
      * @return 토큰의 subject (사용자 이메일)
      */
     public String getUserPk(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
+    /**
+     * 토큰의 연령대 클레임 (없으면 null)
+     */
+    public String getAgeBand(String token) {
+        return parser.parseSignedClaims(token).getPayload().get(AGE_BAND_KEY, String.class);
+    }
+
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return parser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             // 토큰이 만료되었더라도 클레임 정보는 반환
             return e.getClaims();
         }
     }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedAuthentication(UserDetails principal, long expiresAt) {
+    }
 }
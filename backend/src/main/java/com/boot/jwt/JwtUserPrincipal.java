@@ -0,0 +1,40 @@
+package com.boot.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * JWT 로 인증된 사용자 principal
+ * - 토큰에 서명된 연령대(ageBand) 클레임을 함께 노출해 성인 여부 판단 시 DB 조회를 생략
+ * - 연령대 클레임이 없는 이전 토큰은 ageBand 가 null
+ */
+public class JwtUserPrincipal extends User {
+
+    public static final String AGE_BAND_ADULT = "ADULT";
+    public static final String AGE_BAND_MINOR = "MINOR";
+
+    private final String ageBand;
+
+    public JwtUserPrincipal(String username, Collection<? extends GrantedAuthority> authorities, String ageBand) {
+        super(username, "", authorities);
+        this.ageBand = ageBand;
+    }
+
+    public static String ageBandOf(boolean adult) {
+        return adult ? AGE_BAND_ADULT : AGE_BAND_MINOR;
+    }
+
+    public String getAgeBand() {
+        return ageBand;
+    }
+
+    public boolean hasAgeBand() {
+        return ageBand != null;
+    }
+
+    public boolean isAdult() {
+        return AGE_BAND_ADULT.equals(ageBand);
+    }
+}
@@ -0,0 +1,28 @@
+package com.boot.repository;
+
+import com.boot.dto.BookingHistoryRow;
+import com.boot.entity.BookingArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingArchiveRepository extends JpaRepository<BookingArchive, Long> {
+    // 사용자별 보관 예매 내역 조회 (최신순)
+    List<BookingArchive> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 사용자별 보관 예매 내역 키셋 페이지 (showtime_archive 조인 프로젝션)
+    @Query("SELECT new com.boot.dto.BookingHistoryRow(b.id, b.bookingStatus, b.seats, b.seatCount, b.totalPrice, b.createdAt, " +
+           "s.id, s.movieId, s.startTime, s.endTime, s.screenId) " +
+           "FROM BookingArchive b JOIN ShowtimeArchive s ON s.id = b.showtimeId " +
+           "WHERE b.userId = :userId " +
+           "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingHistoryRow> findHistoryPage(@Param("userId") Long userId,
+                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+}
@@ -1,10 +1,13 @@
 package com.boot.repository;
 
+import com.boot.dto.BookingHistoryRow;
 import com.boot.entity.Booking;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -31,4 +34,16 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
            "WHERE b.showtime.id = :showtimeId " +
            "AND b.bookingStatus = 'CONFIRMED'")
     List<String> findBookedSeatsByShowtimeId(@Param("showtimeId") Long showtimeId);
+
+    // 사용자별 예매 내역 키셋 페이지 (createdAt, id 역순 / 시간표·상영관·영화관 조인 프로젝션)
+    @Query("SELECT new com.boot.dto.BookingHistoryRow(b.id, b.bookingStatus, b.seats, b.seatCount, b.totalPrice, b.createdAt, " +
+           "s.id, s.movieId, s.startTime, s.endTime, sc.id, sc.name, sc.screenType, t.id, t.name, t.chain, t.address) " +
+           "FROM Booking b JOIN b.showtime s JOIN s.screen sc JOIN sc.theater t " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingHistoryRow> findHistoryPage(@Param("userId") Long userId,
+                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
 }
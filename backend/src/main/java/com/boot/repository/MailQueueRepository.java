@@ -0,0 +1,9 @@
+package com.boot.repository;
+
+import com.boot.entity.MailQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailQueueRepository extends JpaRepository<MailQueue, Long> {
+
+    long countByStatus(MailQueue.Status status);
+}
@@ -0,0 +1,20 @@
+package com.boot.repository;
+
+import com.boot.entity.PaymentOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+    Optional<PaymentOutbox> findByIdempotencyKey(String idempotencyKey);
+
+    long countByStatus(PaymentOutbox.Status status);
+
+    // 가장 오래된 대기 건의 생성 시각 (처리 지연 측정용)
+    @Query("SELECT MIN(o.createdAt) FROM PaymentOutbox o " +
+           "WHERE o.status = com.boot.entity.PaymentOutbox.Status.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+}
@@ -1,9 +1,15 @@
 package com.boot.repository;
 
 import com.boot.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +19,28 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderId(String orderId);
     List<Payment> findByUserId(Long userId);
     List<Payment> findByBookingId(Long bookingId);
+
+    // 일정 시간 이상 결과가 확정되지 않은 결제 (승인 결과 복구용)
+    List<Payment> findByStatusAndCreatedAtBeforeOrderByIdAsc(Payment.PaymentStatus status, LocalDateTime before, Pageable pageable);
+
+    // 상태 전이는 모두 현재 상태를 조건으로 (동시 요청/복구 작업이 확정한 상태를 덮어쓰지 않음), 반환값 0 이면 전이 실패
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :next WHERE p.id = :id AND p.status IN :expected")
+    int updateStatusIfIn(@Param("id") Long id,
+                         @Param("expected") Collection<Payment.PaymentStatus> expected,
+                         @Param("next") Payment.PaymentStatus next);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = com.boot.entity.Payment.PaymentStatus.DONE, p.approvedAt = :approvedAt " +
+           "WHERE p.id = :id AND p.status = com.boot.entity.Payment.PaymentStatus.IN_PROGRESS")
+    int markApprovedIfInProgress(@Param("id") Long id, @Param("approvedAt") LocalDateTime approvedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = com.boot.entity.Payment.PaymentStatus.CANCELED, " +
+           "p.cancelReason = :cancelReason, p.canceledAt = :canceledAt " +
+           "WHERE p.paymentKey = :paymentKey AND p.status IN :expected")
+    int markCanceledIfIn(@Param("paymentKey") String paymentKey,
+                         @Param("expected") Collection<Payment.PaymentStatus> expected,
+                         @Param("cancelReason") String cancelReason,
+                         @Param("canceledAt") LocalDateTime canceledAt);
 }
@@ -0,0 +1,7 @@
+package com.boot.repository;
+
+import com.boot.entity.ReconciliationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationCheckpointRepository extends JpaRepository<ReconciliationCheckpoint, String> {
+}
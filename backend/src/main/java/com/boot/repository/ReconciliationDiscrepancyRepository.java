@@ -0,0 +1,12 @@
+package com.boot.repository;
+
+import com.boot.entity.ReconciliationDiscrepancy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ReconciliationDiscrepancyRepository extends JpaRepository<ReconciliationDiscrepancy, Long> {
+    // 실행별 불일치 목록 (예매 ID 순)
+    List<ReconciliationDiscrepancy> findByRunIdOrderByBookingIdAscIdAsc(String runId, Pageable pageable);
+}
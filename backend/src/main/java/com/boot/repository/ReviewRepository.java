@@ -2,6 +2,7 @@ package com.boot.repository;
 
 import com.boot.entity.Review;
 import com.boot.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +14,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 특정 영화의 모든 리뷰 조회
     List<Review> findByMovieId(String movieId);
 
+    // 작성자까지 한 번에 조회 (트랜잭션 밖에서 작성자 이름을 읽는 리뷰 요약/목록용)
+    @EntityGraph(attributePaths = "user")
+    List<Review> findWithUserByMovieId(String movieId);
+
     // 특정 영화에 대한 특정 사용자의 리뷰 조회
     Optional<Review> findByMovieIdAndUser(String movieId, User user);
 
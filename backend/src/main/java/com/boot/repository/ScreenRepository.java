@@ -2,6 +2,7 @@ package com.boot.repository;
 
 import com.boot.entity.Screen;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -14,4 +15,8 @@ public interface ScreenRepository extends JpaRepository<Screen, Long> {
 
     // 특정 영화관의 특정 타입 상영관 조회
     List<Screen> findByTheaterIdAndScreenType(Long theaterId, String screenType);
+
+    // 전체 상영관 + 영화관 (레지스트리 적재용)
+    @Query("SELECT sc FROM Screen sc JOIN FETCH sc.theater")
+    List<Screen> findAllWithTheater();
 }
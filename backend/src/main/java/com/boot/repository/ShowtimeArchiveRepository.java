@@ -0,0 +1,7 @@
+package com.boot.repository;
+
+import com.boot.entity.ShowtimeArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShowtimeArchiveRepository extends JpaRepository<ShowtimeArchive, Long> {
+}
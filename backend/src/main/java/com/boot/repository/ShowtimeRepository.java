@@ -1,12 +1,15 @@
 package com.boot.repository;
 
+import com.boot.dto.BookingShowtimeRow;
 import com.boot.entity.Showtime;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
     // 영화별 시간표 조회
@@ -68,4 +71,41 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
            "ORDER BY s.movieId, s.startTime")
     List<Showtime> findByRegionAndStartTimeAfter(@Param("region") String region,
                                                   @Param("now") LocalDateTime now);
+
+    // 시간표의 영화 ID만 조회 (대기열 핫 모드 판별용)
+    @Query("SELECT s.movieId FROM Showtime s WHERE s.id = :showtimeId")
+    Optional<String> findMovieIdById(@Param("showtimeId") Long showtimeId);
+
+    // 시간표 읽기 모델 전체 재구성용 (screen/theater fetch join, id 기준 키셋 페이징)
+    @Query("SELECT s FROM Showtime s " +
+           "JOIN FETCH s.screen sc " +
+           "JOIN FETCH sc.theater t " +
+           "WHERE s.startTime >= :from " +
+           "AND s.id > :afterId " +
+           "ORDER BY s.id")
+    List<Showtime> findForTimetableRebuild(@Param("from") LocalDateTime from,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    // 시간표 읽기 모델 증분 동기화용 (updatedSince 이후 변경된 시간표만)
+    @Query("SELECT s FROM Showtime s " +
+           "JOIN FETCH s.screen sc " +
+           "JOIN FETCH sc.theater t " +
+           "WHERE s.startTime >= :from " +
+           "AND s.updatedAt >= :updatedSince " +
+           "AND s.id > :afterId " +
+           "ORDER BY s.id")
+    List<Showtime> findForTimetableSync(@Param("from") LocalDateTime from,
+                                        @Param("updatedSince") LocalDateTime updatedSince,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    // 지역별 예매 가능 시간표 프로젝션 (엔티티/지연 로딩 없이 조인 결과만 조회)
+    @Query("SELECT new com.boot.dto.BookingShowtimeRow(s.id, s.movieId, t.id, t.name, sc.name, s.startTime, s.endTime) " +
+           "FROM Showtime s JOIN s.screen sc JOIN sc.theater t " +
+           "WHERE t.region = :region " +
+           "AND s.startTime >= :now " +
+           "ORDER BY s.movieId, s.startTime")
+    List<BookingShowtimeRow> findBookingRowsByRegion(@Param("region") String region,
+                                                     @Param("now") LocalDateTime now);
 }
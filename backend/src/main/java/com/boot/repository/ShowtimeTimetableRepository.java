@@ -0,0 +1,63 @@
+package com.boot.repository;
+
+import com.boot.entity.ShowtimeTimetable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ShowtimeTimetableRepository extends JpaRepository<ShowtimeTimetable, Long> {
+
+    // 영화별 + 기간 시간표
+    List<ShowtimeTimetable> findByMovieIdAndStartTimeBetweenOrderByStartTime(String movieId,
+                                                                             LocalDateTime start,
+                                                                             LocalDateTime end);
+
+    // 영화관별 + 기간 시간표
+    List<ShowtimeTimetable> findByTheaterIdAndStartTimeBetweenOrderByStartTime(Long theaterId,
+                                                                               LocalDateTime start,
+                                                                               LocalDateTime end);
+
+    // 영화 + 영화관 + 기간 시간표 (예매 페이지용)
+    List<ShowtimeTimetable> findByMovieIdAndTheaterIdAndStartTimeBetweenOrderByStartTime(String movieId,
+                                                                                         Long theaterId,
+                                                                                         LocalDateTime start,
+                                                                                         LocalDateTime end);
+
+    // 영화 + 지역 시간표
+    List<ShowtimeTimetable> findByMovieIdAndTheaterRegionAndStartTimeGreaterThanEqualOrderByStartTime(String movieId,
+                                                                                                      String region,
+                                                                                                      LocalDateTime now);
+
+    // 영화 + 체인 시간표
+    List<ShowtimeTimetable> findByMovieIdAndTheaterChainAndStartTimeGreaterThanEqualOrderByStartTime(String movieId,
+                                                                                                     String chain,
+                                                                                                     LocalDateTime now);
+
+    // 여러 영화관 + 기간 시간표 (주변 영화관 시간표용)
+    List<ShowtimeTimetable> findByTheaterIdInAndStartTimeBetweenOrderByStartTime(Collection<Long> theaterIds,
+                                                                                 LocalDateTime start,
+                                                                                 LocalDateTime end);
+
+    // 시작 전 시간표 전체 (메모리 인덱스 적재용)
+    List<ShowtimeTimetable> findByStartTimeGreaterThanEqual(LocalDateTime now);
+
+    // 특정 동기화 이후 반영된 시작 전 시간표 (메모리 인덱스 증분 적재용)
+    List<ShowtimeTimetable> findBySyncedAtGreaterThanEqualAndStartTimeGreaterThanEqual(LocalDateTime syncedAt,
+                                                                                      LocalDateTime now);
+
+    // 예매/취소 시 잔여 좌석만 갱신
+    @Modifying
+    @Query("UPDATE ShowtimeTimetable t SET t.availableSeats = :availableSeats WHERE t.showtimeId = :showtimeId")
+    int updateAvailableSeats(@Param("showtimeId") Long showtimeId,
+                             @Param("availableSeats") Integer availableSeats);
+
+    // 전체 재구성 이후 원본에서 사라진(동기화되지 않은) 행 정리
+    @Modifying
+    @Query("DELETE FROM ShowtimeTimetable t WHERE t.syncedAt < :syncedBefore")
+    int deleteStaleRows(@Param("syncedBefore") LocalDateTime syncedBefore);
+}
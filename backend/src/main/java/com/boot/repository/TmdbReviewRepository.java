@@ -12,6 +12,5 @@ public interface TmdbReviewRepository extends JpaRepository<TmdbReviewEntity, Lo
 
     Optional<TmdbReviewEntity> findByMovieIdAndExternalId(String movieId, String externalId);
 
-    // 번역 안 된 리뷰 N개씩 가져오기(스케줄러용)
-    List<TmdbReviewEntity> findTop100ByTranslatedContentIsNullOrderByCreatedAtAsc();
+    long countByTranslatedContentIsNullAndTranslationAttemptsLessThan(int attempts);
 }
@@ -1,6 +1,8 @@
 package com.boot.security.oauth2;
 
+import com.boot.dto.UserIdentity;
 import com.boot.jwt.JwtTokenProvider;
+import com.boot.jwt.JwtUserPrincipal;
 import com.boot.security.oauth2.CustomOAuth2User;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,8 +30,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         String email = oAuth2User.getEmail();
         String role = oAuth2User.getAuthorities().iterator().next().getAuthority();
 
-        // JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(email, role);
+        // JWT 토큰 생성 (성인 여부를 연령대 클레임으로 포함)
+        String ageBand = JwtUserPrincipal.ageBandOf(oAuth2User.getUser().getAge() >= UserIdentity.ADULT_AGE);
+        String token = jwtTokenProvider.createToken(email, role, ageBand);
 
         // 프론트엔드로 리다이렉트 (토큰을 쿼리 파라미터로 전달)
         // 주의: 실제 운영 환경에서는 쿠키나 더 안전한 방법을 고려해야 함
@@ -0,0 +1,166 @@
+package com.boot.service;
+
+import com.boot.config.ConcurrencyLimitProperties;
+import com.boot.config.ConcurrencyLimitProperties.EndpointClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트 등급별 적응형 동시 처리 제한 (Gradient 방식)
+ * - 등급마다 단기/장기 응답 시간(EWMA)을 추적하고, 단기 지연이 장기 기준보다 커지면 한도를 줄이고
+ *   여유가 있으면 sqrt(limit) 만큼씩 늘림
+ * - 우선순위 부하 차단: 상위 등급(예매/결제)의 지연이 허용치를 넘으면 그 비율만큼 하위 등급(조회, AI)의
+ *   실효 한도를 추가로 낮춰, 공용 자원(Tomcat 스레드/DB 커넥션)을 상위 등급에 양보
+ */
+@Service
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_ALPHA = 0.1;
+    private static final double LONG_RTT_ALPHA = 0.005;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<ClassLimiter> limiters = new ArrayList<>();
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (EndpointClass endpointClass : properties.getClasses()) {
+            ClassLimiter limiter = new ClassLimiter(endpointClass);
+            limiters.add(limiter);
+            Gauge.builder("concurrency.limit", limiter, this::effectiveLimit)
+                    .tag("class", endpointClass.getName())
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.inflight", limiter.inflight, AtomicInteger::get)
+                    .tag("class", endpointClass.getName())
+                    .register(meterRegistry);
+            limiter.rejected = meterRegistry.counter("concurrency.rejected", "class", endpointClass.getName());
+        }
+    }
+
+    /**
+     * 처리 허가 (반드시 release 로 반납)
+     */
+    public static final class Permit {
+        static final Permit UNLIMITED = new Permit(null);
+
+        private final ClassLimiter limiter;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(ClassLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        public void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.onComplete(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * 요청 경로의 등급에서 동시 처리 슬롯 획득
+     *
+     * @return 허가, 한도를 넘으면 null (호출 측에서 503 응답)
+     */
+    public Permit tryAcquire(String path) {
+        if (!properties.isEnabled()) {
+            return Permit.UNLIMITED;
+        }
+        ClassLimiter limiter = match(path);
+        if (limiter == null) {
+            return Permit.UNLIMITED;
+        }
+        int limit = effectiveLimit(limiter);
+        while (true) {
+            int current = limiter.inflight.get();
+            if (current >= limit) {
+                limiter.rejected.increment();
+                return null;
+            }
+            if (limiter.inflight.compareAndSet(current, current + 1)) {
+                return new Permit(limiter);
+            }
+        }
+    }
+
+    /**
+     * 실효 한도 = 자체 한도 × (상위 등급 혼잡도에 따른 차단 비율)
+     */
+    int effectiveLimit(ClassLimiter limiter) {
+        double factor = 1.0;
+        for (ClassLimiter other : limiters) {
+            if (other.priority < limiter.priority) {
+                double ratio = other.congestionRatio();
+                if (ratio > properties.getRttTolerance()) {
+                    factor *= properties.getRttTolerance() / ratio;
+                }
+            }
+        }
+        return Math.max(1, (int) (limiter.limit * factor));
+    }
+
+    private ClassLimiter match(String path) {
+        for (ClassLimiter limiter : limiters) {
+            for (String pattern : limiter.patterns) {
+                if (pathMatcher.match(pattern, path)) {
+                    return limiter;
+                }
+            }
+        }
+        return null;
+    }
+
+    final class ClassLimiter {
+        private final int priority;
+        private final List<String> patterns;
+        private final int minLimit;
+        private final int maxLimit;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private Counter rejected;
+
+        private volatile double limit;
+        private double shortRtt;
+        private double longRtt;
+
+        ClassLimiter(EndpointClass endpointClass) {
+            this.priority = endpointClass.getPriority();
+            this.patterns = endpointClass.getPatterns();
+            this.minLimit = endpointClass.getMinLimit();
+            this.maxLimit = endpointClass.getMaxLimit();
+            this.limit = Math.max(minLimit, Math.min(maxLimit, endpointClass.getInitialLimit()));
+        }
+
+        // 단기 / 장기 응답 시간 비율 (1 보다 크면 지연 증가 중)
+        synchronized double congestionRatio() {
+            return longRtt > 0 ? shortRtt / longRtt : 1.0;
+        }
+
+        synchronized void onComplete(long rttNanos) {
+            int inflightAtCompletion = inflight.getAndDecrement();
+            shortRtt = shortRtt == 0 ? rttNanos : shortRtt * (1 - SHORT_RTT_ALPHA) + rttNanos * SHORT_RTT_ALPHA;
+            longRtt = longRtt == 0 ? rttNanos : longRtt * (1 - LONG_RTT_ALPHA) + rttNanos * LONG_RTT_ALPHA;
+            // 지연이 크게 줄어든 경우 장기 기준도 빠르게 따라 내려감
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+
+            // 한도의 절반도 쓰지 않는 동안은 한도를 늘리지 않음 (트래픽 부족으로 인한 과대 추정 방지)
+            if (inflightAtCompletion < limit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRtt / shortRtt));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+}
@@ -9,8 +9,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -19,14 +19,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AiRecommendationService {
 
-    private final ObjectMapper objectMapper;
+    private static final String SYSTEM_PROMPT =
+            "너는 영화 추천 이유를 한국어로 생성하는 어시스턴트다. 반드시 유효한 JSON만 출력한다.";
 
-    @Value("${openai.api-key}")
-    private String openAiApiKey;
+    private final ObjectMapper objectMapper;
+    private final LlmGateway llmGateway;
 
-    private final RestClient openAiClient = RestClient.builder()
-            .baseUrl("https://api.openai.com/v1")
-            .build();
+    // 호출당 마감 시간: 결과 조회는 최대 3회 순차 호출(취향 타입/키워드/추천 이유)이므로
+    // 3 x 이 값이 ai.executor.timeout-seconds 보다 작아야 함
+    @Value("${quickmatch.llm-deadline-ms:15000}")
+    private long llmDeadlineMs;
 
     /**
      * 퀵매치 결과용 AI 추천 문구 생성
@@ -39,9 +41,10 @@ public class AiRecommendationService {
         }
 
         String prompt = buildPrompt(summary, movies);
-        String contentJson = callLlm(prompt); // LLM이 반환한 JSON 문자열
+        String contentJson = null;
 
         try {
+            contentJson = callLlm("quickmatch.reasons", prompt); // LLM이 반환한 JSON 문자열
             JsonNode root = objectMapper.readTree(contentJson);
             JsonNode reasonsNode = root.get("reasons");
 
@@ -58,6 +61,8 @@ public class AiRecommendationService {
             // 영화 개수와 맞춰서 부족분은 기본 문구로 채움
             return normalizeSize(reasons, movies.size());
 
+        } catch (LlmGateway.LlmUnavailableException e) {
+            return fallbackReasons(movies.size());
         } catch (Exception e) {
             log.error("AI 추천 이유 JSON 파싱 실패: {}", e.getMessage(), e);
             return fallbackReasons(movies.size());
@@ -108,9 +113,10 @@ public class AiRecommendationService {
         sb.append("4) 반드시 JSON 형식으로만 출력:\n");
         sb.append("{ \"tasteType\": \"감성적인 모험러\" }\n");
 
-        String contentJson = callLlm(sb.toString());
+        String contentJson = null;
 
         try {
+            contentJson = callLlm("quickmatch.taste-type", sb.toString());
             JsonNode root = objectMapper.readTree(contentJson);
             JsonNode node = root.get("tasteType");
             if (node == null || node.isNull()) {
@@ -118,6 +124,8 @@ public class AiRecommendationService {
                 return "취향 타입 분석 중입니다";
             }
             return node.asText();
+        } catch (LlmGateway.LlmUnavailableException e) {
+            return "취향 타입 분석 중입니다";
         } catch (Exception e) {
             log.error("취향 타입 JSON 파싱 실패: {}", e.getMessage(), e);
             return "취향 타입 분석 중입니다";
@@ -155,9 +163,10 @@ public class AiRecommendationService {
         sb.append("반드시 다음 JSON 형식으로만 출력하세요.\n");
         sb.append("{ \"keywords\": [\"키워드1\", \"키워드2\", ...] }\n");
 
-        String contentJson = callLlm(sb.toString());
+        String contentJson = null;
 
         try {
+            contentJson = callLlm("quickmatch.keywords", sb.toString());
             JsonNode root = objectMapper.readTree(contentJson);
             JsonNode arr = root.get("keywords");
             if (arr == null || !arr.isArray()) {
@@ -167,6 +176,8 @@ public class AiRecommendationService {
             return toStringList(arr).stream()
                     .limit(maxKeywords)
                     .toList();
+        } catch (LlmGateway.LlmUnavailableException e) {
+            return List.of();
         } catch (Exception e) {
             log.error("키워드 JSON 파싱 실패: {}", e.getMessage(), e);
             return List.of();
@@ -219,9 +230,10 @@ public class AiRecommendationService {
         sb.append("4) 반드시 다음 JSON 형식으로만 출력:\n");
         sb.append("{ \"reason\": \"문장 내용\" }\n");
 
-        String contentJson = callLlm(sb.toString());
+        String contentJson = null;
 
         try {
+            contentJson = callLlm("quickmatch.alternative", sb.toString());
             JsonNode root = objectMapper.readTree(contentJson);
             JsonNode node = root.get("reason");
             if (node == null || node.isNull()) {
@@ -229,6 +241,8 @@ public class AiRecommendationService {
                 return "이전 취향과 비슷한 결을 가진 작품이라 대체 추천으로 보여드렸어요.";
             }
             return node.asText();
+        } catch (LlmGateway.LlmUnavailableException e) {
+            return fallbackAlternativeReason();
         } catch (Exception e) {
             log.error("대체 추천 이유 JSON 파싱 실패: {}", e.getMessage(), e);
             return "이전 취향과 비슷한 결을 가진 작품이라 대체 추천으로 보여드렸어요.";
@@ -285,45 +299,9 @@ public class AiRecommendationService {
         return sb.toString();
     }
 
-    private String callLlm(String prompt) {
-        long start = System.currentTimeMillis();
-        try {
-            Map<String, Object> body = new HashMap<>();
-            body.put("model", "gpt-4o-mini");
-            body.put("response_format", Map.of("type", "json_object"));
-
-            List<Map<String, String>> messages = List.of(
-                    Map.of("role", "system",
-                            "content", "너는 영화 추천 이유를 한국어로 생성하는 어시스턴트다. 반드시 유효한 JSON만 출력한다."),
-                    Map.of("role", "user", "content", prompt)
-            );
-            body.put("messages", messages);
-
-            JsonNode response = openAiClient.post()
-                    .uri("/chat/completions")
-                    .header("Authorization", "Bearer " + openAiApiKey)
-                    .header("Content-Type", "application/json")
-                    .body(body)
-                    .retrieve()
-                    .body(JsonNode.class);
-
-            long end = System.currentTimeMillis();
-            log.info("AI 추천 이유 LLM 호출 성공. 소요 시간 = {} ms, 프롬프트 길이 = {} chars",
-                    (end - start), prompt.length());
-
-            String content = response
-                    .get("choices").get(0)
-                    .get("message").get("content")
-                    .asText();
-
-            return content;
-
-        } catch (Exception e) {
-            long end = System.currentTimeMillis();
-            log.error("AI 추천 이유 LLM 호출 실패. 소요 시간 = {} ms, 에러 = {}",
-                    (end - start), e.getMessage());
-            throw new RuntimeException("AI 추천 이유 LLM 호출 실패: " + e.getMessage(), e);
-        }
+    // LLM 장애/회로 차단 시 LlmUnavailableException → 각 메서드의 대체 문구로 응답
+    private String callLlm(String useCase, String prompt) {
+        return llmGateway.complete(useCase, SYSTEM_PROMPT, prompt, true, Duration.ofMillis(llmDeadlineMs));
     }
 
     private List<String> toStringList(JsonNode arrayNode) {
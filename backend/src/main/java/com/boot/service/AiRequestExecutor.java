@@ -0,0 +1,64 @@
+package com.boot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 API 의 비동기 처리
+ * - 요청 스레드는 작업을 전용 풀에 넘기고 바로 반환 (OpenAI 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않음)
+ * - 풀/큐가 가득 차면 503, 제한 시간 초과 시 504 로 응답
+ * - 작업 예외는 컨트롤러에서 던진 것과 동일하게 처리됨
+ */
+@Slf4j
+@Component
+public class AiRequestExecutor {
+
+    private final ExecutorService aiExecutor;
+    private final long timeoutMillis;
+
+    public AiRequestExecutor(@Qualifier("aiExecutor") ExecutorService aiExecutor,
+                             @Value("${ai.executor.timeout-seconds:60}") long timeoutSeconds) {
+        this.aiExecutor = aiExecutor;
+        this.timeoutMillis = timeoutSeconds * 1000;
+    }
+
+    public <T> DeferredResult<T> submit(Supplier<T> task) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        result.onTimeout(() -> result.setErrorResult(
+                ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body("AI 응답 시간이 초과되었습니다.")));
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        try {
+            aiExecutor.execute(() -> {
+                if (result.isSetOrExpired()) {
+                    return;
+                }
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    result.setResult(task.get());
+                } catch (Exception e) {
+                    result.setErrorResult(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 작업 큐가 가득 차 요청을 거절합니다.");
+            result.setErrorResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "5")
+                    .body("AI 요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+package com.boot.service;
+
+import com.boot.dto.BookingMovieDto;
+import com.boot.dto.BookingShowtimeRow;
+import com.boot.dto.ShowtimeInfoDto;
+import com.boot.elastic.Movie;
+import com.boot.event.ShowtimesSyncedEvent;
+import com.boot.repository.ShowtimeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예매 페이지용 지역별 "예매 가능 영화" 카탈로그 (메모리 캐시)
+ * - 지역별로 영화 → 최초/최종 상영일, 상영 횟수, 영화관별 시간표를 미리 계산해 둠
+ * - TheaterRegistry 에 있는 지역만 캐시 (그 외 지역은 400) → 키 수는 등록된 지역 수로 제한
+ * - 1분마다 최근 조회된 지역만 다시 계산 (지난 시간표 만료 반영), 오래 조회되지 않은 지역은 제거
+ * - DB/ES 조회는 맵 연산(compute) 밖에서 수행하고 결과만 교체
+ * - 시간표 동기화 이벤트(신규 시간표 반영) 시 즉시 다시 계산
+ * - 잔여 좌석은 카탈로그에 포함되지 않으므로 예매/취소로는 다시 계산하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingCatalogService {
+
+    // 스케줄러가 밀렸을 때 요청 스레드에서 다시 계산하는 기준
+    private static final long MAX_AGE_SECONDS = 120;
+    // 이 시간 동안 조회되지 않은 지역은 갱신 대상에서 빼고 캐시에서 제거
+    private static final long IDLE_EVICT_SECONDS = 600;
+
+    private final ShowtimeRepository showtimeRepository;
+    private final MovieSearchService movieSearchService;
+    private final TheaterRegistry theaterRegistry;
+
+    private final Map<String, RegionCatalog> catalogs = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> lastAccessed = new ConcurrentHashMap<>();
+
+    private record RegionCatalog(List<BookingMovieDto> movies, LocalDateTime builtAt) {
+        boolean isStale(LocalDateTime now) {
+            return builtAt.plusSeconds(MAX_AGE_SECONDS).isBefore(now);
+        }
+    }
+
+    /**
+     * 지역별 예매 가능 영화 목록 (캐시된 카탈로그 반환)
+     * @throws IllegalArgumentException 등록된 영화관이 없는 지역
+     */
+    public List<BookingMovieDto> getBookingMovies(String region) {
+        if (region == null || theaterRegistry.getTheatersByRegion(region).isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 지역입니다: " + region);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        lastAccessed.put(region, now);
+        RegionCatalog catalog = catalogs.get(region);
+        if (catalog == null || catalog.isStale(now)) {
+            // 동시에 여러 요청이 계산할 수 있으나 더 최근 결과만 남김
+            catalog = store(region, build(region));
+        }
+        return catalog.movies();
+    }
+
+    /**
+     * 1분마다 최근 조회된 지역 카탈로그 재계산
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void refreshAll() {
+        LocalDateTime idleBefore = LocalDateTime.now().minusSeconds(IDLE_EVICT_SECONDS);
+        for (String region : catalogs.keySet()) {
+            LocalDateTime accessed = lastAccessed.get(region);
+            if (accessed == null || accessed.isBefore(idleBefore)
+                    || theaterRegistry.getTheatersByRegion(region).isEmpty()) {
+                catalogs.remove(region);
+                lastAccessed.remove(region, accessed);
+                continue;
+            }
+            try {
+                store(region, build(region));
+            } catch (Exception e) {
+                log.warn("예매 카탈로그 갱신 실패: region={}, 에러 = {}", region, e.getMessage());
+            }
+        }
+    }
+
+    @EventListener
+    public void onShowtimesSynced(ShowtimesSyncedEvent event) {
+        refreshAll();
+    }
+
+    private RegionCatalog store(String region, RegionCatalog built) {
+        return catalogs.merge(region, built,
+                (current, candidate) -> candidate.builtAt().isBefore(current.builtAt()) ? current : candidate);
+    }
+
+    private RegionCatalog build(String region) {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingShowtimeRow> rows = showtimeRepository.findBookingRowsByRegion(region, now);
+
+        // 영화별 그룹핑 (쿼리가 movieId, startTime 순으로 정렬되어 있음)
+        Map<String, List<BookingShowtimeRow>> rowsByMovie = new LinkedHashMap<>();
+        for (BookingShowtimeRow row : rows) {
+            rowsByMovie.computeIfAbsent(row.getMovieId(), k -> new ArrayList<>()).add(row);
+        }
+
+        // Elasticsearch에서 여러 영화 정보 한 번에 조회
+        List<String> elasticIds = rowsByMovie.keySet().stream()
+                .map(id -> id.replace("tmdb_", ""))
+                .toList();
+        Map<String, Movie> movieMap = new LinkedHashMap<>();
+        for (Movie movie : movieSearchService.getMoviesByIds(elasticIds)) {
+            movieMap.put("tmdb_" + movie.getId(), movie);
+        }
+
+        List<BookingMovieDto> bookingMovies = new ArrayList<>();
+        for (Map.Entry<String, List<BookingShowtimeRow>> entry : rowsByMovie.entrySet()) {
+            Movie movie = movieMap.get(entry.getKey());
+            if (movie == null) {
+                continue;
+            }
+            bookingMovies.add(toDto(movie, entry.getValue()));
+        }
+
+        log.debug("예매 카탈로그 계산: region={}, 시간표 {}건, 영화 {}편, 소요 시간 = {} ms",
+                region, rows.size(), bookingMovies.size(), System.currentTimeMillis() - start);
+        return new RegionCatalog(Collections.unmodifiableList(bookingMovies), now);
+    }
+
+    private BookingMovieDto toDto(Movie movie, List<BookingShowtimeRow> movieRows) {
+        // 시작 시간 순 정렬이므로 첫 행/마지막 행이 최초/최종 상영일
+        LocalDate firstShowDate = movieRows.get(0).getStartTime().toLocalDate();
+        LocalDate lastShowDate = movieRows.get(movieRows.size() - 1).getStartTime().toLocalDate();
+
+        // 상영관별로 그룹핑 (theaterId 기준)
+        Map<Long, List<ShowtimeInfoDto>> theaterShowtimes = new LinkedHashMap<>();
+        for (BookingShowtimeRow row : movieRows) {
+            theaterShowtimes.computeIfAbsent(row.getTheaterId(), k -> new ArrayList<>())
+                    .add(ShowtimeInfoDto.builder()
+                            .showtimeId(row.getShowtimeId())
+                            .theaterName(row.getTheaterName())
+                            .screenName(row.getScreenName())
+                            .startTime(row.getStartTime())
+                            .endTime(row.getEndTime())
+                            .build());
+        }
+
+        Long movieIdLong = null;
+        try {
+            movieIdLong = Long.parseLong(movie.getId());
+        } catch (NumberFormatException e) {
+            // id가 숫자가 아니면 null로 처리
+        }
+
+        return BookingMovieDto.builder()
+                .movieId(movieIdLong)
+                .title(movie.getTitle())
+                .posterUrl(movie.getPosterPath() != null ?
+                        "https://image.tmdb.org/t/p/w500" + movie.getPosterPath() : null)
+                .voteAverage(movie.getVoteAverage() != null ? movie.getVoteAverage().doubleValue() : 0.0)
+                .releaseDate(movie.getReleaseDate())
+                .overview(movie.getOverview())
+                .firstShowDate(firstShowDate)
+                .lastShowDate(lastShowDate)
+                .totalShowtimes(movieRows.size())
+                .isNowPlaying(true)
+                .theaterShowtimes(theaterShowtimes)
+                .build();
+    }
+}
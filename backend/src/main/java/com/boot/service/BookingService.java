@@ -2,26 +2,42 @@ package com.boot.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import com.boot.dto.BookingHistoryPageDto;
+import com.boot.dto.BookingHistoryRow;
 import com.boot.dto.BookingMovieDto;
 import com.boot.dto.BookingRequestDto;
 import com.boot.dto.BookingResponseDto;
+import com.boot.dto.ScreenDto;
+import com.boot.dto.TheaterDto;
 import com.boot.elastic.Movie;
 import com.boot.entity.Booking;
+import com.boot.entity.PaymentOutbox;
+import com.boot.entity.BookingArchive;
 import com.boot.entity.Showtime;
+import com.boot.entity.ShowtimeArchive;
 import com.boot.entity.User;
+import com.boot.event.BookingSalesChangedEvent;
+import com.boot.event.ShowtimeSeatsChangedEvent;
+import com.boot.repository.BookingArchiveRepository;
 import com.boot.repository.BookingRepository;
+import com.boot.repository.PaymentOutboxRepository;
+import com.boot.repository.ShowtimeArchiveRepository;
 import com.boot.repository.ShowtimeRepository;
 import com.boot.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,106 +45,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookingService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final BookingRepository bookingRepository;
     private final ShowtimeRepository showtimeRepository;
     private final UserRepository userRepository;
     private final ElasticsearchClient elasticsearchClient;
     private final com.boot.repository.PaymentRepository paymentRepository;
-    private final com.boot.service.PaymentService paymentService;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingCatalogService bookingCatalogService;
+    private final TheaterRegistry theaterRegistry;
+    private final BookingArchiveRepository bookingArchiveRepository;
+    private final MovieSearchService movieSearchService;
+    private final ShowtimeArchiveRepository showtimeArchiveRepository;
 
     /**
-     * 예매 페이지용 영화 목록 조회 (지역별 실제 상영 중인 영화)
+     * 예매 페이지용 영화 목록 조회 (지역별 실제 상영 중인 영화, 카탈로그 캐시 사용)
      */
     public List<BookingMovieDto> getBookingMovies(String region) {
-        // 1. 해당 지역에서 오늘 이후 상영하는 모든 showtime 조회
-        List<Showtime> showtimes = showtimeRepository.findByRegionAndStartTimeAfter(region, LocalDateTime.now());
-
-        // 2. 영화별로 그룹핑 (movieId를 키로)
-        Map<String, List<Showtime>> movieShowtimes = showtimes.stream()
-            .collect(Collectors.groupingBy(Showtime::getMovieId, LinkedHashMap::new, Collectors.toList()));
-
-        // 3. movieId 목록 추출 및 Elasticsearch 배치 조회
-        List<String> movieIds = new ArrayList<>(movieShowtimes.keySet());
-        List<String> elasticIds = movieIds.stream()
-            .map(id -> id.replace("tmdb_", ""))
-            .collect(Collectors.toList());
-
-        // Elasticsearch에서 여러 영화 정보 한 번에 조회
-        Map<String, Movie> movieMap = new LinkedHashMap<>();
-        try {
-            var searchResponse = elasticsearchClient.search(
-                s -> s.index("movies")
-                    .query(q -> q.ids(i -> i.values(elasticIds)))
-                    .size(elasticIds.size()),
-                Movie.class
-            );
-            searchResponse.hits().hits().forEach(hit -> {
-            if (hit.id() != null && hit.source() != null) {
-                movieMap.put("tmdb_" + hit.id(), hit.source());
-            }
-            });
-        } catch (Exception e) {
-            System.err.println("Elasticsearch batch fetch failed: " + e.getMessage());
-        }
-
-        // 4. 각 영화에 대해 BookingMovieDto 생성
-        List<BookingMovieDto> bookingMovies = new ArrayList<>();
-        for (Map.Entry<String, List<Showtime>> entry : movieShowtimes.entrySet()) {
-            String movieId = entry.getKey();
-            List<Showtime> movieShowtimeList = entry.getValue();
-
-            // 최초/최종 상영일 계산
-            LocalDate firstShowDate = movieShowtimeList.stream()
-                .map(s -> s.getStartTime().toLocalDate())
-                .min(LocalDate::compareTo)
-                .orElse(LocalDate.now());
-
-            LocalDate lastShowDate = movieShowtimeList.stream()
-                .map(s -> s.getStartTime().toLocalDate())
-                .max(LocalDate::compareTo)
-                .orElse(LocalDate.now());
-
-            // 상영관별로 그룹핑 (theaterId 기준)
-            Map<Long, List<com.boot.dto.ShowtimeInfoDto>> theaterShowtimes = movieShowtimeList.stream()
-                .collect(Collectors.groupingBy(
-                    s -> s.getScreen().getTheater().getId(),
-                    LinkedHashMap::new,
-                    Collectors.mapping(s -> com.boot.dto.ShowtimeInfoDto.builder()
-                        .showtimeId(s.getId())
-                        .theaterName(s.getScreen().getTheater().getName())
-                        .screenName(s.getScreen().getName())
-                        .startTime(s.getStartTime())
-                        .endTime(s.getEndTime())
-                        .build(),
-                        Collectors.toList())
-                ));
-
-            Movie movie = movieMap.get(movieId);
-            if (movie != null) {
-                Long movieIdLong = null;
-                try {
-                    movieIdLong = Long.parseLong(movie.getId());
-                } catch (NumberFormatException e) {
-                    // id가 숫자가 아니면 null로 처리
-                }
-                BookingMovieDto dto = BookingMovieDto.builder()
-                        .movieId(movieIdLong)
-                        .title(movie.getTitle())
-                        .posterUrl(movie.getPosterPath() != null ?
-                                "https://image.tmdb.org/t/p/w500" + movie.getPosterPath() : null)
-                        .voteAverage(movie.getVoteAverage() != null ? movie.getVoteAverage().doubleValue() : 0.0)
-                        .releaseDate(movie.getReleaseDate())
-                        .overview(movie.getOverview())
-                        .firstShowDate(firstShowDate)
-                        .lastShowDate(lastShowDate)
-                        .totalShowtimes(movieShowtimeList.size())
-                        .isNowPlaying(true)
-                        .theaterShowtimes(theaterShowtimes)
-                        .build();
-                bookingMovies.add(dto);
-            }
-        }
-        return bookingMovies;
+        return bookingCatalogService.getBookingMovies(region);
     }
 
     /**
@@ -182,9 +118,13 @@ public class BookingService {
         // 저장
         Booking savedBooking = bookingRepository.save(booking);
         showtimeRepository.save(showtime);
+        eventPublisher.publishEvent(new ShowtimeSeatsChangedEvent(
+                showtime.getId(), showtime.getMovieId(), showtime.getAvailableSeats()));
+        eventPublisher.publishEvent(new BookingSalesChangedEvent(showtime.getId(), showtime.getMovieId(),
+                showtime.getScreen().getId(), showtime.getStartTime(), seatCount, savedBooking.getTotalPrice()));
 
         // DTO 변환 및 영화 정보 추가
-        BookingResponseDto dto = BookingResponseDto.fromEntity(savedBooking);
+        BookingResponseDto dto = toDto(savedBooking);
         enrichWithMovieData(dto);
         return dto;
     }
@@ -195,29 +135,100 @@ public class BookingService {
     public List<BookingResponseDto> getUserBookings(Long userId) {
         List<Booking> bookings = bookingRepository.findByUserIdOrderByCreatedAtDesc(userId);
 
-        return bookings.stream()
-                .map(booking -> {
-                    BookingResponseDto dto = BookingResponseDto.fromEntity(booking);
-                    enrichWithMovieData(dto);
-                    return dto;
+        List<BookingResponseDto> result = bookings.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+
+        // 보관된(지난) 예매 내역도 함께 반환
+        List<BookingArchive> archived = bookingArchiveRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        if (!archived.isEmpty()) {
+            User user = userRepository.findById(userId).orElse(null);
+            Map<Long, ShowtimeArchive> showtimes = showtimeArchiveRepository.findAllById(
+                            archived.stream().map(BookingArchive::getShowtimeId).distinct().toList()).stream()
+                    .collect(Collectors.toMap(ShowtimeArchive::getId, Function.identity()));
+            archived.forEach(booking -> result.add(toDto(booking, showtimes.get(booking.getShowtimeId()), user)));
+            result.sort(Comparator.comparing(BookingResponseDto::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+
+        enrichWithMovieData(result);
+        return result;
+    }
+
+    /**
+     * 사용자별 예매 내역 키셋 페이지 조회 (운영 + 보관 테이블 병합, 최신순)
+     * - 페이지당 조인 쿼리 2회 + ES mget 1회로 비용이 페이지 크기에만 비례
+     * @param cursor 이전 페이지의 nextCursor ("{createdAt}_{bookingId}", 첫 페이지는 null)
+     */
+    public BookingHistoryPageDto getUserBookingHistory(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(9999, 12, 31, 23, 59);
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                cursorCreatedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+            }
+        }
+
+        // 양쪽에서 pageSize + 1 건씩 가져와 병합 (다음 페이지 존재 여부 판단용 1건 추가)
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<BookingHistoryRow> rows = new ArrayList<>(
+                bookingRepository.findHistoryPage(userId, cursorCreatedAt, cursorId, limit));
+        rows.addAll(bookingArchiveRepository.findHistoryPage(userId, cursorCreatedAt, cursorId, limit));
+        rows.sort(Comparator.comparing(BookingHistoryRow::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(BookingHistoryRow::getBookingId, Comparator.reverseOrder()));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BookingHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        User user = page.isEmpty() ? null : userRepository.findById(userId).orElse(null);
+        List<BookingResponseDto> items = page.stream()
+                .map(row -> {
+                    ScreenDto screen = row.getScreenName() == null ? theaterRegistry.getScreen(row.getScreenId()) : null;
+                    TheaterDto theater = screen != null ? theaterRegistry.getTheater(screen.getTheaterId()) : null;
+                    return BookingResponseDto.fromHistoryRow(row, screen, theater, user);
                 })
                 .collect(Collectors.toList());
+        enrichWithMovieData(items);
+
+        String nextCursor = null;
+        if (hasNext) {
+            BookingHistoryRow last = page.get(page.size() - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getBookingId();
+        }
+        return BookingHistoryPageDto.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
      * 예매 상세 조회
      */
     public BookingResponseDto getBookingDetail(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예매입니다."));
-
-        BookingResponseDto dto = BookingResponseDto.fromEntity(booking);
+        BookingResponseDto dto = bookingRepository.findById(bookingId)
+                .map(this::toDto)
+                .orElseGet(() -> {
+                    // 운영 테이블에 없으면 보관 테이블 조회
+                    BookingArchive archived = bookingArchiveRepository.findById(bookingId)
+                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예매입니다."));
+                    return toDto(archived,
+                            showtimeArchiveRepository.findById(archived.getShowtimeId()).orElse(null),
+                            userRepository.findById(archived.getUserId()).orElse(null));
+                });
         enrichWithMovieData(dto);
         return dto;
     }
 
     /**
      * 예매 취소
+     * - 예매 취소/좌석 복구와 환불 요청(아웃박스)을 한 트랜잭션에 저장
+     * - 실제 PG 결제 취소는 PaymentRefundWorker 가 비동기로 처리 (취소 응답 시간이 PG 와 무관)
      */
     @Transactional
     public void cancelBooking(Long bookingId) {
@@ -228,30 +239,39 @@ public class BookingService {
             throw new IllegalStateException("취소할 수 없는 예매입니다.");
         }
 
-        // 1. 결제 정보 조회 (예매에 연결된 결제)
-        var payments = paymentRepository.findByBookingId(bookingId);
-        if (payments != null && !payments.isEmpty()) {
-            var payment = payments.get(0); // 하나의 예매에 결제 1건 가정
-            if (payment.getStatus() != com.boot.entity.Payment.PaymentStatus.CANCELED) {
-                // 결제 취소 요청
-                com.boot.dto.PaymentCancelRequest cancelRequest = new com.boot.dto.PaymentCancelRequest(
-                        payment.getPaymentKey(), "예매 취소로 인한 결제 취소");
-                var result = paymentService.cancelPayment(cancelRequest);
-                if (!(Boolean.TRUE.equals(result.get("success")))) {
-                    throw new RuntimeException("결제 취소에 실패했습니다.");
-                }
-            }
-        }
-
-        // 2. 예매 취소
+        // 1. 예매 취소
         booking.cancel();
 
-        // 3. 좌석 복구
+        // 2. 좌석 복구
         Showtime showtime = booking.getShowtime();
         showtime.increaseAvailableSeats(booking.getSeatCount());
 
         bookingRepository.save(booking);
         showtimeRepository.save(showtime);
+
+        // 3. 환불 요청 저장 (승인 완료된 결제가 있을 때만, 예매당 1건)
+        // 승인 시도마다 결제 행이 남으므로(ABORTED/IN_PROGRESS/EXPIRED 등) DONE/PARTIAL_CANCELED 결제만 환불 대상
+        var refundable = paymentRepository.findByBookingId(bookingId).stream()
+                .filter(p -> p.getStatus() == com.boot.entity.Payment.PaymentStatus.DONE
+                        || p.getStatus() == com.boot.entity.Payment.PaymentStatus.PARTIAL_CANCELED)
+                .findFirst();
+        if (refundable.isPresent()) {
+            String idempotencyKey = "refund-booking-" + bookingId;
+            if (paymentOutboxRepository.findByIdempotencyKey(idempotencyKey).isEmpty()) {
+                paymentOutboxRepository.save(PaymentOutbox.builder()
+                        .eventType(PaymentRefundWorker.EVENT_PAYMENT_CANCEL)
+                        .idempotencyKey(idempotencyKey)
+                        .paymentKey(refundable.get().getPaymentKey())
+                        .bookingId(bookingId)
+                        .reason("예매 취소로 인한 결제 취소")
+                        .build());
+            }
+        }
+
+        eventPublisher.publishEvent(new ShowtimeSeatsChangedEvent(
+                showtime.getId(), showtime.getMovieId(), showtime.getAvailableSeats()));
+        eventPublisher.publishEvent(new BookingSalesChangedEvent(showtime.getId(), showtime.getMovieId(),
+                showtime.getScreen().getId(), showtime.getStartTime(), -booking.getSeatCount(), -booking.getTotalPrice()));
     }
 
     /**
@@ -266,6 +286,52 @@ public class BookingService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 예매 DTO 변환 (상영관/영화관 정보는 레지스트리에서, 없으면 엔티티 연관관계에서)
+     */
+    private BookingResponseDto toDto(Booking booking) {
+        ScreenDto screen = theaterRegistry.getScreen(booking.getShowtime().getScreen().getId());
+        TheaterDto theater = screen != null ? theaterRegistry.getTheater(screen.getTheaterId()) : null;
+        if (theater == null) {
+            return BookingResponseDto.fromEntity(booking);
+        }
+        return BookingResponseDto.fromEntity(booking, screen, theater);
+    }
+
+    /**
+     * 보관 예매 DTO 변환
+     */
+    private BookingResponseDto toDto(BookingArchive booking, ShowtimeArchive showtime, User user) {
+        ScreenDto screen = showtime != null ? theaterRegistry.getScreen(showtime.getScreenId()) : null;
+        TheaterDto theater = screen != null ? theaterRegistry.getTheater(screen.getTheaterId()) : null;
+        return BookingResponseDto.fromArchive(booking, showtime, screen, theater, user);
+    }
+
+    /**
+     * 여러 예매의 영화 정보를 ES mget 한 번으로 조회 후 DTO에 추가
+     */
+    private void enrichWithMovieData(List<BookingResponseDto> dtos) {
+        Set<String> elasticIds = dtos.stream()
+                .map(BookingResponseDto::getMovieId)
+                .filter(Objects::nonNull)
+                .map(movieId -> movieId.replace("tmdb_", ""))
+                .collect(Collectors.toSet());
+        Map<String, Movie> movies = movieSearchService.multiGetMovies(elasticIds);
+
+        for (BookingResponseDto dto : dtos) {
+            Movie movie = dto.getMovieId() != null ? movies.get(dto.getMovieId().replace("tmdb_", "")) : null;
+            if (movie != null) {
+                dto.setMovieTitle(movie.getTitle());
+                dto.setPosterPath(movie.getPosterPath());
+                dto.setRuntime(movie.getRuntime() != null ? movie.getRuntime() : 120);
+            } else {
+                // 조회 실패 시 기본값 유지
+                dto.setMovieTitle("Unknown");
+                dto.setRuntime(120);
+            }
+        }
+    }
+
     /**
      * Elasticsearch에서 영화 정보 조회 후 DTO에 추가
      */
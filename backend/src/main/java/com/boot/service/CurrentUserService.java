@@ -0,0 +1,228 @@
+package com.boot.service;
+
+import com.boot.dto.UserIdentity;
+import com.boot.entity.User;
+import com.boot.event.UserChangedEvent;
+import com.boot.jwt.JwtUserPrincipal;
+import com.boot.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 사용자 식별 정보 캐시
+ * - 1차: 요청 범위 메모이제이션 (같은 요청 안에서는 한 번만 조회)
+ * - 2차: 이메일 기준 TTL + 크기 제한 로컬 캐시 (ConcurrentHashMap, 조회 시 락 없음)
+ * - 사용자 변경/삭제 시 UserChangedEvent 로 무효화 (커밋 이후)
+ *   로컬 캐시는 노드별이므로 Redis pub/sub 으로 다른 노드에도 무효화를 전파 (Redis 장애 시에는 TTL 까지 지연)
+ * - 연관관계 저장/조회용 User 는 id 만 가진 프록시(getReferenceById)로 제공해 SELECT 를 생략
+ */
+@Slf4j
+@Service
+public class CurrentUserService implements MessageListener {
+
+    private static final String REQUEST_ATTR_PREFIX = CurrentUserService.class.getName() + ".";
+    private static final String EVICT_CHANNEL = "user-cache:evict";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, CachedIdentity> cache = new ConcurrentHashMap<>();
+    // 무효화 횟수: DB 조회 도중 무효화가 있었으면 조회 결과(이전 값일 수 있음)를 캐시에 남기지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CurrentUserService(UserRepository userRepository,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${user-cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${user-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 현재 로그인 사용자 이메일 (비로그인이면 null)
+     */
+    public String getCurrentEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * 현재 로그인 사용자 식별 정보 (비로그인/미존재 시 empty)
+     */
+    public Optional<UserIdentity> findCurrentIdentity() {
+        String email = getCurrentEmail();
+        return email != null ? findIdentity(email) : Optional.empty();
+    }
+
+    /**
+     * 이메일로 사용자 식별 정보 조회 (요청 메모 → 로컬 캐시 → DB)
+     */
+    public Optional<UserIdentity> findIdentity(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        String attr = REQUEST_ATTR_PREFIX + email;
+        if (request != null) {
+            Object memo = request.getAttribute(attr, RequestAttributes.SCOPE_REQUEST);
+            if (memo instanceof UserIdentity identity) {
+                return Optional.of(identity);
+            }
+        }
+
+        UserIdentity identity = getCached(email);
+        if (identity == null) {
+            long evictionsBefore = evictions.get();
+            identity = userRepository.findByEmail(email).map(CurrentUserService::toIdentity).orElse(null);
+            if (identity == null) {
+                return Optional.empty();
+            }
+            store(email, identity, evictionsBefore);
+        }
+        if (request != null) {
+            request.setAttribute(attr, identity, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(identity);
+    }
+
+    /**
+     * 이메일로 User 참조 조회 (id 만 채워진 프록시, 필드 접근 시에만 로딩)
+     */
+    public Optional<User> findUserReference(String email) {
+        return findIdentity(email).map(identity -> userRepository.getReferenceById(identity.id()));
+    }
+
+    /**
+     * 현재 로그인 사용자가 성인인지 여부 (비로그인이면 false)
+     */
+    public boolean isCurrentUserAdult() {
+        return findCurrentIdentity().map(UserIdentity::isAdult).orElse(false);
+    }
+
+    /**
+     * 인증 principal 의 성인 여부
+     * - 토큰에 연령대 클레임이 있으면 DB/캐시 조회 없이 판단
+     * - 클레임이 없는 이전 토큰만 사용자 캐시로 판단, 비로그인이면 false
+     */
+    public boolean isAdult(UserDetails userDetails) {
+        if (userDetails == null) {
+            return false;
+        }
+        if (userDetails instanceof JwtUserPrincipal principal && principal.hasAgeBand()) {
+            return principal.isAdult();
+        }
+        return findIdentity(userDetails.getUsername()).map(UserIdentity::isAdult).orElse(false);
+    }
+
+    public void evict(String email) {
+        evictLocal(email);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTR_PREFIX + email, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.email());
+        log.debug("현재 사용자 캐시 무효화: {}", event.email());
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, event.email());
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 무효화 전파 실패 (다른 노드는 TTL 만료 후 반영): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)에서 발행한 무효화 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 횟수를 먼저 올린 뒤 제거 (store 의 재확인과 짝을 이뤄 조회 중이던 이전 값이 다시 들어가지 않음)
+    private void evictLocal(String email) {
+        evictions.incrementAndGet();
+        cache.remove(email);
+    }
+
+    private UserIdentity getCached(String email) {
+        CachedIdentity cached = cache.get(email);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            cache.remove(email, cached);
+            return null;
+        }
+        return cached.identity();
+    }
+
+    // 저장 후 그 사이 무효화가 있었는지 재확인, 있었으면 방금 넣은 값을 되돌림
+    private void store(String email, UserIdentity identity, long evictionsBefore) {
+        CachedIdentity entry = new CachedIdentity(identity, System.currentTimeMillis() + ttlMillis);
+        cache.put(email, entry);
+        if (evictions.get() != evictionsBefore) {
+            cache.remove(email, entry);
+            return;
+        }
+        if (cache.size() > maxSize) {
+            evictOverflow();
+        }
+    }
+
+    // 크기 초과 시 만료 항목부터 제거하고, 그래도 많으면 최대 크기의 90% 까지 임의 항목 제거
+    private void evictOverflow() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAt() <= now);
+        int target = maxSize * 9 / 10;
+        Iterator<String> keys = cache.keySet().iterator();
+        while (cache.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static UserIdentity toIdentity(User user) {
+        return new UserIdentity(user.getId(), user.getEmail(), user.getName(), user.getRole(), user.isEnabled(), user.getBirthDate());
+    }
+
+    private record CachedIdentity(UserIdentity identity, long expiresAt) {
+    }
+}
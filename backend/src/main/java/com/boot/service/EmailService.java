@@ -1,32 +1,38 @@
 package com.boot.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.boot.entity.MailQueue;
+import com.boot.repository.MailQueueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 메일 발송 요청 (메일 큐에 저장만 하고 즉시 반환)
+ * - 호출 측 트랜잭션에 참여하므로 회원가입이 롤백되면 메일도 발송되지 않음
+ * - 실제 SMTP 발송은 MailDispatcher 가 비동기로 처리
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
+    public static final String TYPE_VERIFICATION = "VERIFICATION";
 
+    private final MailQueueRepository mailQueueRepository;
+
+    @Transactional
     public void sendVerificationEmail(String to, String subject, String text) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(to);
-            mimeMessageHelper.setSubject(subject);
-            mimeMessageHelper.setText(text, true); // true: HTML 형식으로 전송
-            javaMailSender.send(mimeMessage);
-            log.info("인증 메일 전송 완료: {}", to);
-        } catch (MessagingException e) {
-            log.error("인증 메일 전송 실패: {}", e.getMessage());
-            throw new IllegalStateException("메일 전송에 실패했습니다.");
-        }
+        enqueue(TYPE_VERIFICATION, to, subject, text);
+    }
+
+    private void enqueue(String mailType, String to, String subject, String html) {
+        mailQueueRepository.save(MailQueue.builder()
+                .mailType(mailType)
+                .recipient(to)
+                .subject(subject)
+                .body(html)
+                .build());
+        log.info("메일 발송 대기열 등록: type={}, to={}", mailType, to);
     }
-}
\ No newline at end of file
+}
@@ -21,7 +21,7 @@ import java.util.stream.Collectors;
 public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
     private final MovieSearchService movieSearchService;
 
     private User getCurrentUser() {
@@ -30,13 +30,13 @@ public class FavoriteService {
             throw new IllegalStateException("로그인이 필요합니다.");
         }
         String userEmail = authentication.getName();
-        return userService.findByEmail(userEmail)
+        return currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
     }
 
     // 찜 추가/삭제 토글
     public boolean toggleFavorite(String userEmail, String movieId) {
-        User user = userService.findByEmail(userEmail)
+        User user = currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
 
         return favoriteRepository.findByUserAndMovieId(user, movieId)
@@ -55,7 +55,7 @@ public class FavoriteService {
     // 특정 영화에 대한 찜 상태 확인
     @Transactional(readOnly = true)
     public boolean isFavorite(String userEmail, String movieId) {
-        User user = userService.findByEmail(userEmail)
+        User user = currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
         return favoriteRepository.existsByUserAndMovieId(user, movieId);
     }
@@ -63,7 +63,7 @@ public class FavoriteService {
     // 사용자가 찜한 모든 영화 ID 목록 조회
     @Transactional(readOnly = true)
     public List<String> getFavoriteMovieIds(String userEmail) {
-        User user = userService.findByEmail(userEmail)
+        User user = currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
         List<Favorite> favorites = favoriteRepository.findByUser(user);
         return favorites.stream()
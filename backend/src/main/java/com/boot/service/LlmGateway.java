@@ -0,0 +1,414 @@
+package com.boot.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM(OpenAI 호환 chat/completions) 공통 호출 게이트웨이
+ * - 커넥션 풀 HTTP 클라이언트 + 호출별 마감 시간(남은 시간만큼만 응답 대기)
+ * - 동시 호출 수 제한 (마감 시간 안에 슬롯을 못 얻으면 실패)
+ * - 429/5xx/네트워크 오류는 지수 백오프 + 지터로 재시도 (Retry-After 존중, 마감 시간 초과 시 중단)
+ * - 연속 실패 시 회로 차단: 일정 시간 동안 호출 없이 즉시 실패 → 호출 측은 기존 대체 문구로 응답
+ *   (5xx/429/네트워크 오류/타임아웃만 실패로 집계, 재시도 불가 4xx·응답 형식 오류는 집계하지 않음)
+ *   (백그라운드 번역 등 isolated-use-cases 는 용도별 회로를 따로 써서 사용자 요청 기능의 회로에 영향을 주지 않음)
+ * - 용도(useCase)별 지연/토큰/오류 메트릭 기록
+ * - 동일 프롬프트 응답은 LlmResponseCache 에서 재사용 (회로 차단 중에도 캐시 적중은 응답)
+ */
+@Slf4j
+@Component
+public class LlmGateway {
+
+    /**
+     * LLM 을 사용할 수 없는 경우 (회로 차단, 동시 호출 한도 초과, 마감 시간 초과, 재시도 소진)
+     */
+    public static class LlmUnavailableException extends RuntimeException {
+        // LLM 서버 장애(5xx/429/네트워크/타임아웃)로 인한 실패인지 (회로 차단 집계 대상)
+        private final boolean upstreamFailure;
+
+        public LlmUnavailableException(String message) {
+            this(message, null, true);
+        }
+
+        public LlmUnavailableException(String message, Throwable cause) {
+            this(message, cause, true);
+        }
+
+        public LlmUnavailableException(String message, Throwable cause, boolean upstreamFailure) {
+            super(message, cause);
+            this.upstreamFailure = upstreamFailure;
+        }
+
+        public boolean isUpstreamFailure() {
+            return upstreamFailure;
+        }
+    }
+
+    private enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private static final String SHARED_BREAKER = "shared";
+
+    /**
+     * 연속 실패 기반 회로 차단기 (CLOSED → OPEN → 차단 시간 경과 후 1건 시험 호출 HALF_OPEN)
+     */
+    private static class CircuitBreaker {
+        private final String name;
+        private final int failureThreshold;
+        private final long openMs;
+        private CircuitState state = CircuitState.CLOSED;
+        private int consecutiveFailures;
+        private long openUntil;
+
+        CircuitBreaker(String name, int failureThreshold, long openMs) {
+            this.name = name;
+            this.failureThreshold = failureThreshold;
+            this.openMs = openMs;
+        }
+
+        synchronized CircuitState state() {
+            return state;
+        }
+
+        // OPEN 상태에서 차단 시간이 지나면 한 건만 시험 호출 허용 (HALF_OPEN)
+        synchronized boolean allowRequest() {
+            if (state == CircuitState.OPEN) {
+                if (System.currentTimeMillis() < openUntil) {
+                    return false;
+                }
+                state = CircuitState.HALF_OPEN;
+                return true;
+            }
+            return state == CircuitState.CLOSED;
+        }
+
+        synchronized void onSuccess() {
+            if (state != CircuitState.CLOSED) {
+                log.info("LLM 회로 복구 (CLOSED): breaker={}", name);
+            }
+            consecutiveFailures = 0;
+            state = CircuitState.CLOSED;
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = CircuitState.OPEN;
+                openUntil = System.currentTimeMillis() + openMs;
+                log.warn("LLM 회로 차단 (OPEN): breaker={}, 연속 실패 {}회, {}ms 동안 즉시 실패 처리",
+                        name, consecutiveFailures, openMs);
+            }
+        }
+
+        // 시험 호출이 LLM 에 닿지 못하고 끝난 경우 다음 호출이 다시 시험하도록 되돌림
+        synchronized void abortTrial() {
+            if (state == CircuitState.HALF_OPEN) {
+                state = CircuitState.OPEN;
+                openUntil = 0;
+            }
+        }
+    }
+
+    private final RestClient restClient;
+    private final LlmResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    // 현재 스레드 호출의 남은 마감 시간(ms), 요청별 응답 타임아웃으로 사용
+    private final ThreadLocal<Long> remainingMillis = new ThreadLocal<>();
+
+    @Value("${llm.api-key:${openai.api-key}}")
+    private String apiKey;
+
+    @Value("${llm.model:gpt-4o-mini}")
+    private String model;
+
+    // 미지정 시 요청에 넣지 않음 (API 기본값)
+    @Value("${llm.temperature:#{null}}")
+    private Double temperature;
+
+    @Value("${llm.default-deadline-ms:20000}")
+    private long defaultDeadlineMs;
+
+    @Value("${llm.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${llm.retry.base-backoff-ms:300}")
+    private long baseBackoffMs;
+
+    @Value("${llm.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${llm.circuit.open-ms:30000}")
+    private long openMs;
+
+    // 자체 회로를 쓰는 용도 (나머지는 shared 회로 공유)
+    @Value("${llm.circuit.isolated-use-cases:}")
+    private List<String> isolatedUseCases;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public LlmGateway(@Qualifier("llmHttpClient") CloseableHttpClient llmHttpClient,
+                      LlmResponseCache responseCache,
+                      MeterRegistry meterRegistry,
+                      @Value("${llm.base-url:https://api.openai.com/v1}") String baseUrl,
+                      @Value("${llm.max-concurrency:24}") int maxConcurrency) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(llmHttpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            Long remaining = remainingMillis.get();
+            if (remaining != null) {
+                context.setRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(Math.min(remaining, 1000)))
+                        .setResponseTimeout(Timeout.ofMilliseconds(remaining))
+                        .build());
+            }
+            return context;
+        });
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 기본 마감 시간으로 호출
+     */
+    public String complete(String useCase, String systemPrompt, String userPrompt, boolean jsonMode) {
+        return complete(useCase, systemPrompt, userPrompt, jsonMode, Duration.ofMillis(defaultDeadlineMs));
+    }
+
+    /**
+     * 캐시를 거치지 않는 호출 (무작위 요소가 들어간 프롬프트 등 매번 새 응답이 필요한 경우)
+     */
+    public String completeUncached(String useCase, String systemPrompt, String userPrompt, boolean jsonMode) {
+        return execute(useCase, systemPrompt, userPrompt, jsonMode, Duration.ofMillis(defaultDeadlineMs), false);
+    }
+
+    /**
+     * chat/completions 호출 후 첫 번째 응답 메시지(content) 반환
+     *
+     * @param useCase  메트릭 구분용 용도 이름
+     * @param jsonMode true 면 JSON 객체 응답 강제 (response_format=json_object)
+     * @param deadline 재시도/대기를 포함한 전체 허용 시간
+     * @throws LlmUnavailableException 사용할 수 없거나 마감 시간 안에 응답을 받지 못한 경우
+     */
+    public String complete(String useCase, String systemPrompt, String userPrompt, boolean jsonMode, Duration deadline) {
+        return execute(useCase, systemPrompt, userPrompt, jsonMode, deadline, true);
+    }
+
+    private String execute(String useCase, String systemPrompt, String userPrompt, boolean jsonMode,
+                           Duration deadline, boolean useCache) {
+        String cacheKey = null;
+        if (useCache && responseCache.isCacheable(useCase)) {
+            cacheKey = responseCache.key(model, temperature, jsonMode, systemPrompt, userPrompt);
+            Optional<String> cached = responseCache.get(useCase, cacheKey);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        long deadlineAt = System.currentTimeMillis() + deadline.toMillis();
+
+        CircuitBreaker breaker = breakerFor(useCase);
+        if (!breaker.allowRequest()) {
+            recordError(useCase, "circuit_open");
+            throw new LlmUnavailableException("LLM 회로 차단 중");
+        }
+
+        boolean acquired = false;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            acquired = permits.tryAcquire(Math.max(0, deadlineAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                recordError(useCase, "busy");
+                breaker.abortTrial();
+                throw new LlmUnavailableException("LLM 동시 호출 한도 초과");
+            }
+            String content = callWithRetry(useCase, buildBody(systemPrompt, userPrompt, jsonMode), deadlineAt);
+            breaker.onSuccess();
+            outcome = "success";
+            if (cacheKey != null) {
+                responseCache.put(useCase, cacheKey, content);
+            }
+            return content;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            breaker.abortTrial();
+            throw new LlmUnavailableException("LLM 호출 대기 중 인터럽트", e);
+        } catch (LlmUnavailableException e) {
+            if (acquired) {
+                if (e.isUpstreamFailure()) {
+                    breaker.onFailure();
+                } else {
+                    breaker.abortTrial();
+                }
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            if (acquired) {
+                breaker.abortTrial();
+            }
+            throw e;
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+            sample.stop(meterRegistry.timer("llm.call", "use_case", useCase, "outcome", outcome));
+        }
+    }
+
+    private String callWithRetry(String useCase, Map<String, Object> body, long deadlineAt) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            long remaining = deadlineAt - System.currentTimeMillis();
+            if (remaining <= 0) {
+                // 첫 시도 전이면 슬롯 대기로 마감 시간을 다 쓴 것이므로 LLM 장애로 보지 않음
+                recordError(useCase, "deadline");
+                throw new LlmUnavailableException("LLM 마감 시간 초과", null, attempt > 0);
+            }
+
+            boolean retryable;
+            boolean upstreamFailure;
+            long retryAfterMs = 0;
+            RestClientException failure;
+            remainingMillis.set(remaining);
+            try {
+                JsonNode response = restClient.post()
+                        .uri("/chat/completions")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body)
+                        .retrieve()
+                        .body(JsonNode.class);
+                recordTokens(useCase, response);
+                JsonNode content = response == null ? null
+                        : response.path("choices").path(0).path("message").path("content");
+                if (content == null || !content.isTextual()) {
+                    // 빈 본문 / choices 없음 / content 없음 (거절·도구 호출 응답 등)
+                    recordError(useCase, "invalid_response");
+                    throw new LlmUnavailableException("LLM 응답에 content 가 없음", null, false);
+                }
+                return content.asText();
+            } catch (RestClientResponseException e) {
+                int status = e.getStatusCode().value();
+                retryable = status == 429 || status >= 500;
+                upstreamFailure = retryable;
+                retryAfterMs = parseRetryAfterMs(e.getResponseHeaders());
+                recordError(useCase, "http_" + status);
+                failure = e;
+            } catch (ResourceAccessException e) {
+                // 연결 실패 / 응답 타임아웃
+                retryable = true;
+                upstreamFailure = true;
+                recordError(useCase, "io");
+                failure = e;
+            } catch (RestClientException e) {
+                // 응답 형식 오류 등
+                retryable = false;
+                upstreamFailure = false;
+                recordError(useCase, "invalid_response");
+                failure = e;
+            } finally {
+                remainingMillis.remove();
+            }
+
+            if (!retryable || attempt >= maxRetries) {
+                log.warn("LLM 호출 실패 (useCase={}, 시도={}회): {}", useCase, attempt + 1, failure.getMessage());
+                throw new LlmUnavailableException("LLM 호출 실패: " + failure.getMessage(), failure, upstreamFailure);
+            }
+
+            // Full jitter 백오프 (Retry-After 가 더 길면 그만큼 대기)
+            long backoff = ThreadLocalRandom.current().nextLong(baseBackoffMs << Math.min(attempt, 10)) + 1;
+            backoff = Math.max(backoff, retryAfterMs);
+            if (System.currentTimeMillis() + backoff >= deadlineAt) {
+                recordError(useCase, "deadline");
+                throw new LlmUnavailableException("LLM 재시도 대기 시간이 마감 시간을 초과", failure);
+            }
+            meterRegistry.counter("llm.retries", "use_case", useCase).increment();
+            Thread.sleep(backoff);
+        }
+    }
+
+    private Map<String, Object> buildBody(String systemPrompt, String userPrompt, boolean jsonMode) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", model);
+        if (temperature != null) {
+            body.put("temperature", temperature);
+        }
+        if (jsonMode) {
+            body.put("response_format", Map.of("type", "json_object"));
+        }
+        body.put("messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        ));
+        return body;
+    }
+
+    private CircuitBreaker breakerFor(String useCase) {
+        String name = isolatedUseCases.contains(useCase) ? useCase : SHARED_BREAKER;
+        return breakers.computeIfAbsent(name, key -> {
+            CircuitBreaker breaker = new CircuitBreaker(key, failureThreshold, openMs);
+            Gauge.builder("llm.circuit.state", breaker, b -> b.state().ordinal())
+                    .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                    .tag("breaker", key)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private void recordTokens(String useCase, JsonNode response) {
+        JsonNode usage = response != null ? response.get("usage") : null;
+        if (usage == null) {
+            return;
+        }
+        meterRegistry.counter("llm.tokens", "use_case", useCase, "type", "prompt")
+                .increment(usage.path("prompt_tokens").asLong());
+        meterRegistry.counter("llm.tokens", "use_case", useCase, "type", "completion")
+                .increment(usage.path("completion_tokens").asLong());
+    }
+
+    private void recordError(String useCase, String reason) {
+        meterRegistry.counter("llm.errors", "use_case", useCase, "reason", reason).increment();
+    }
+
+    private static long parseRetryAfterMs(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return (long) (Double.parseDouble(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.boot.service;
+
+import com.boot.config.LlmCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * LLM 응답 캐시 (프롬프트 내용 기반 키)
+ * - 키: SHA-256(model, temperature, JSON 모드 여부, system 프롬프트, user 프롬프트)
+ * - 1차 Redis(용도별 TTL), 옵션으로 2차 MySQL(spill) → 2차 적중 시 Redis 에 다시 채움
+ * - 캐시 장애는 미스로 처리 (LLM 호출은 그대로 진행)
+ * - MySQL 만료 시각은 저장/비교/남은 시간 계산 모두 DB 시계(NOW()) 기준
+ * - 메트릭: llm.cache.requests{use_case, result=hit|spill_hit|miss}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmResponseCache {
+
+    private static final String KEY_PREFIX = "llm:cache:";
+
+    private static final String SELECT_SQL =
+            "SELECT content, TIMESTAMPDIFF(SECOND, NOW(), expires_at) AS remaining_seconds " +
+            "FROM llm_response_cache WHERE cache_key = ? AND expires_at > NOW()";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO llm_response_cache (cache_key, use_case, content, expires_at, created_at) " +
+            "VALUES (?, ?, ?, DATE_ADD(NOW(), INTERVAL ? SECOND), NOW()) " +
+            "ON DUPLICATE KEY UPDATE content = VALUES(content), expires_at = VALUES(expires_at), created_at = NOW()";
+
+    private static final String PURGE_SQL = "DELETE FROM llm_response_cache WHERE expires_at <= NOW() LIMIT 5000";
+
+    private record SpillRow(String content, long remainingSeconds) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final LlmCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 대상 용도인지 여부 (TTL 이 설정된 용도만)
+     */
+    public boolean isCacheable(String useCase) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Duration ttl = properties.getTtl().get(useCase);
+        return ttl != null && !ttl.isZero() && !ttl.isNegative();
+    }
+
+    public String key(String model, Double temperature, boolean jsonMode, String systemPrompt, String userPrompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{model, String.valueOf(temperature), String.valueOf(jsonMode), systemPrompt, userPrompt}) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Optional<String> get(String useCase, String key) {
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (cached != null) {
+                record(useCase, "hit");
+                return Optional.of(cached);
+            }
+        } catch (DataAccessException e) {
+            log.debug("LLM 캐시 Redis 조회 실패: {}", e.getMessage());
+        }
+
+        if (properties.isMysqlSpill()) {
+            try {
+                List<SpillRow> rows = jdbcTemplate.query(SELECT_SQL,
+                        (rs, i) -> new SpillRow(rs.getString("content"), rs.getLong("remaining_seconds")), key);
+                if (!rows.isEmpty()) {
+                    // 남은 유효 시간만큼 Redis 에 다시 채움 (결과 집합을 닫은 뒤 호출)
+                    SpillRow row = rows.get(0);
+                    putRedis(key, row.content(), Duration.ofSeconds(row.remainingSeconds()));
+                    record(useCase, "spill_hit");
+                    return Optional.of(row.content());
+                }
+            } catch (DataAccessException e) {
+                log.debug("LLM 캐시 MySQL 조회 실패: {}", e.getMessage());
+            }
+        }
+
+        record(useCase, "miss");
+        return Optional.empty();
+    }
+
+    public void put(String useCase, String key, String content) {
+        if (content == null || content.isBlank() || content.length() > properties.getMaxContentChars()) {
+            return;
+        }
+        Duration ttl = properties.getTtl().get(useCase);
+        if (ttl == null) {
+            return;
+        }
+        putRedis(key, content, ttl);
+        if (properties.isMysqlSpill()) {
+            try {
+                jdbcTemplate.update(UPSERT_SQL, key, useCase, content, ttl.toSeconds());
+            } catch (DataAccessException e) {
+                log.debug("LLM 캐시 MySQL 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만료된 MySQL 캐시 정리 (매일 05:40)
+     */
+    @Scheduled(cron = "0 40 5 * * *")
+    public void purgeExpired() {
+        if (!properties.isMysqlSpill()) {
+            return;
+        }
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE_SQL);
+                total += deleted;
+            } while (deleted > 0);
+            log.info("만료된 LLM 캐시 정리: {}건", total);
+        } catch (DataAccessException e) {
+            log.warn("LLM 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void putRedis(String key, String content, Duration ttl) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, content, ttl);
+        } catch (DataAccessException e) {
+            log.debug("LLM 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void record(String useCase, String result) {
+        meterRegistry.counter("llm.cache.requests", "use_case", useCase, "result", result).increment();
+    }
+}
@@ -0,0 +1,242 @@
+package com.boot.service;
+
+import com.boot.entity.MailQueue;
+import com.boot.repository.MailQueueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 큐 발송기
+ * - 1초마다 발송 시각이 된 메일을 SELECT ... FOR UPDATE SKIP LOCKED 로 골라 점유(lease) 표시 후 발송 스레드 수만큼 나눠 병렬 발송
+ *   → 여러 노드가 동시에 돌아도 같은 메일을 중복 발송하지 않고, 노드가 죽으면 lease 만료 후 다른 노드가 재점유
+ * - 스레드별 묶음은 JavaMailSender.send(MimeMessage...) 한 번으로 보내 SMTP 연결 하나를 재사용
+ * - 실패 메일은 지수 백오프로 재시도, 대기 건수(queue depth) 메트릭 노출
+ * - 로컬 테스트: mail-local 프로필로 localhost:3025 (GreenMail 등 내장 SMTP 서버) 에 발송
+ */
+@Slf4j
+@Service
+public class MailDispatcher {
+
+    // 점유 가능한 발송 대기 행 (다른 트랜잭션이 잠근 행은 건너뜀, 점유 중인 행은 next_attempt_at 이 lease 만료 시각)
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT id FROM mail_queue WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL =
+            "UPDATE mail_queue SET claimed_by = ?, next_attempt_at = ? WHERE id = ?";
+
+    private final MailQueueRepository mailQueueRepository;
+    private final JavaMailSender javaMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService dispatcherPool;
+    // 이 인스턴스의 워커 식별자 (점유 표시용)
+    private final String workerId = "mail-" + UUID.randomUUID();
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    @Value("${mail.queue.batch-size:100}")
+    private int batchSize;
+
+    @Value("${mail.queue.claim-lease-seconds:300}")
+    private long claimLeaseSeconds;
+
+    @Value("${mail.queue.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${mail.queue.base-backoff-seconds:10}")
+    private long baseBackoffSeconds;
+
+    @Value("${mail.queue.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    private final int threads;
+
+    public MailDispatcher(MailQueueRepository mailQueueRepository,
+                          JavaMailSender javaMailSender,
+                          TransactionTemplate transactionTemplate,
+                          JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail.queue.threads:4}") int threads) {
+        this.mailQueueRepository = mailQueueRepository;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.threads = Math.max(threads, 1);
+        this.dispatcherPool = Executors.newFixedThreadPool(this.threads);
+        this.sentCounter = meterRegistry.counter("mail.queue.dispatch", "result", "sent");
+        this.retryCounter = meterRegistry.counter("mail.queue.dispatch", "result", "retry");
+        this.failedCounter = meterRegistry.counter("mail.queue.dispatch", "result", "failed");
+        this.batchTimer = meterRegistry.timer("mail.queue.batch");
+        meterRegistry.gauge("mail.queue.depth", queueDepth);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcherPool.shutdown();
+    }
+
+    @Scheduled(initialDelay = 10000, fixedDelay = 1000)
+    public void dispatch() {
+        List<Long> claimedIds = claim();
+        if (!claimedIds.isEmpty()) {
+            List<MailQueue> due = mailQueueRepository.findAllById(claimedIds).stream()
+                    .sorted(Comparator.comparing(MailQueue::getId))
+                    .toList();
+            batchTimer.record(() -> send(due));
+        }
+        queueDepth.set(mailQueueRepository.countByStatus(MailQueue.Status.PENDING));
+    }
+
+    // 짧은 트랜잭션 안에서 SKIP LOCKED 로 행을 골라 lease 기록 (SMTP 발송 동안 DB 락을 잡지 않음)
+    private List<Long> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> selected = jdbcTemplate.queryForList(
+                    SELECT_CLAIMABLE_SQL, Long.class, Timestamp.valueOf(now), batchSize);
+            if (selected.isEmpty()) {
+                return selected;
+            }
+            Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(claimLeaseSeconds));
+            jdbcTemplate.batchUpdate(CLAIM_SQL, selected.stream()
+                    .map(id -> new Object[]{workerId, leaseUntil, id})
+                    .toList());
+            return selected;
+        });
+    }
+
+    private void send(List<MailQueue> due) {
+        // 스레드 수만큼 묶음으로 나눠 병렬 발송 (묶음마다 SMTP 연결 1개)
+        int chunkSize = (due.size() + threads - 1) / threads;
+        List<List<MailQueue>> chunks = new ArrayList<>();
+        List<Future<Map<Long, String>>> futures = new ArrayList<>();
+        for (int start = 0; start < due.size(); start += chunkSize) {
+            List<MailQueue> chunk = due.subList(start, Math.min(start + chunkSize, due.size()));
+            chunks.add(chunk);
+            futures.add(dispatcherPool.submit(() -> sendChunk(chunk)));
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                failures.putAll(futures.get(i).get());
+            } catch (ExecutionException e) {
+                // 묶음 처리 중 예기치 못한 오류: 발송 여부를 알 수 없으므로 묶음 전체를 재시도 대상으로
+                String error = String.valueOf(e.getCause());
+                log.warn("메일 묶음 발송 중 오류: {}", error);
+                chunks.get(i).forEach(mail -> failures.put(mail.getId(), error));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        // 발송 결과 반영 (짧은 트랜잭션, lease 만료로 다른 노드가 재점유한 행은 건드리지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            for (MailQueue mail : mailQueueRepository.findAllById(due.stream().map(MailQueue::getId).toList())) {
+                if (mail.getStatus() != MailQueue.Status.PENDING || !workerId.equals(mail.getClaimedBy())) {
+                    continue;
+                }
+                String error = failures.get(mail.getId());
+                if (error == null) {
+                    mail.markSent();
+                    sentCounter.increment();
+                } else {
+                    mail.markRetry(error, LocalDateTime.now().plus(backoff(mail.getAttempts())), maxAttempts);
+                    if (mail.getStatus() == MailQueue.Status.FAILED) {
+                        failedCounter.increment();
+                        log.error("메일 발송 최종 실패: id={}, to={}, error={}", mail.getId(), mail.getRecipient(), error);
+                    } else {
+                        retryCounter.increment();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 묶음 발송
+     * @return 실패한 메일 ID → 오류 메시지
+     */
+    private Map<Long, String> sendChunk(List<MailQueue> chunk) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>();
+
+        for (MailQueue mail : chunk) {
+            try {
+                MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+                helper.setTo(mail.getRecipient());
+                helper.setSubject(mail.getSubject());
+                helper.setText(mail.getBody(), true); // true: HTML 형식으로 전송
+                ids.put(mimeMessage, mail.getId());
+                messages.add(mimeMessage);
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 일부(또는 연결 실패 시 전체) 실패: 실패한 메시지만 재시도
+            e.getFailedMessages().forEach((message, ex) -> {
+                Long id = ids.get(message);
+                if (id != null) {
+                    failures.put(id, ex.getMessage());
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                ids.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+        } catch (MailException e) {
+            // 인증 실패 등: 묶음 전체 재시도
+            ids.values().forEach(id -> failures.put(id, e.getMessage()));
+        }
+        return failures;
+    }
+
+    // 지수 백오프 (base * 2^attempts, 상한 maxBackoffSeconds)
+    private Duration backoff(int attempts) {
+        long seconds = baseBackoffSeconds << Math.min(attempts, 20);
+        return Duration.ofSeconds(Math.min(seconds, maxBackoffSeconds));
+    }
+}
@@ -12,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,7 +29,7 @@ public class MovieReviewQueryService {
     public ReviewListResponse getReviewList(String movieId, int limit) {
 
         // 1) 내부 리뷰
-        List<Review> internalReviews = reviewRepository.findByMovieId(movieId);
+        List<Review> internalReviews = reviewRepository.findWithUserByMovieId(movieId);
         List<MovieReviewDto> internalDtos = internalReviews.stream()
                 .map(r -> MovieReviewDto.builder()
                         .source("INTERNAL")
@@ -61,7 +60,7 @@ public class MovieReviewQueryService {
     }
 
     // 리뷰 요약만 반환
-    @Transactional
+    // LLM 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 짧은 트랜잭션)
     public ReviewSummaryDto getSummaryOnly(String movieId) {
 
         // 0) 기존 요약 있으면 바로 리턴
@@ -93,7 +92,7 @@ public class MovieReviewQueryService {
 
     private ReviewSummaryDto createSummary(String movieId) {
         // 1) 내부 리뷰
-        List<Review> internalReviews = reviewRepository.findByMovieId(movieId);
+        List<Review> internalReviews = reviewRepository.findWithUserByMovieId(movieId);
         List<MovieReviewDto> internalDtos = internalReviews.stream()
                 .map(r -> MovieReviewDto.builder()
                         .source("INTERNAL")
@@ -135,8 +134,13 @@ public class MovieReviewQueryService {
                     .build();
         }
 
-        // 5) AI 요약 생성
-        ReviewSummaryDto summaryDto = reviewAiSummaryService.summarize(limited);
+        // 5) AI 요약 생성 (LLM 장애 시 저장하지 않고 임시 요약만 응답 → 다음 요청에서 재생성)
+        ReviewSummaryDto summaryDto;
+        try {
+            summaryDto = reviewAiSummaryService.summarize(limited);
+        } catch (LlmGateway.LlmUnavailableException e) {
+            return reviewAiSummaryService.unavailableSummary();
+        }
 
         // 6) DB 저장
         MovieReviewSummary entity = MovieReviewSummary.builder()
@@ -159,7 +163,7 @@ public class MovieReviewQueryService {
     // 추후 삭제 예정
     public ReviewWithSummaryResponse getReviewsWithSummary(String movieId) {
         // 1) 내부 리뷰
-        List<Review> internalReviews = reviewRepository.findByMovieId(movieId);
+        List<Review> internalReviews = reviewRepository.findWithUserByMovieId(movieId);
 
         List<MovieReviewDto> internalDtos = internalReviews.stream()
                 .map(r -> MovieReviewDto.builder()
@@ -184,7 +188,12 @@ public class MovieReviewQueryService {
                 .limit(30)
                 .toList();
 
-        ReviewSummaryDto summary = reviewAiSummaryService.summarize(limited);
+        ReviewSummaryDto summary;
+        try {
+            summary = reviewAiSummaryService.summarize(limited);
+        } catch (LlmGateway.LlmUnavailableException e) {
+            summary = reviewAiSummaryService.unavailableSummary();
+        }
 
         return ReviewWithSummaryResponse.builder()
                 .movieId(movieId)
@@ -11,6 +11,8 @@ import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.aggregations.StatsAggregate;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Suggestion; // Corrected import for Suggestion
 import co.elastic.clients.elasticsearch._types.SuggestMode; // Corrected import for SuggestMode
 
@@ -394,6 +396,30 @@ public class MovieSearchService {
         }
     }
 
+    // 여러 영화를 ID 로 한 번에 조회 (mget, 결과는 ID → 영화)
+    public Map<String, Movie> multiGetMovies(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            MgetResponse<Movie> response = elasticsearchClient.mget(m -> m
+                            .index("movies")
+                            .ids(new ArrayList<>(ids)),
+                    Movie.class);
+
+            Map<String, Movie> result = new HashMap<>();
+            for (MultiGetResponseItem<Movie> item : response.docs()) {
+                if (item.isResult() && item.result().found() && item.result().source() != null) {
+                    result.put(item.result().id(), item.result().source());
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            logger.error("Elasticsearch에서 다수 영화 mget 조회 중 오류 발생: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
     // 퀵매치용 : 인기 + 평점 순으로 상위 N개의 영화 가져오기
     public List<MovieDoc> findPopularMovies(int size) {
         MovieSearchRequest req = new MovieSearchRequest();
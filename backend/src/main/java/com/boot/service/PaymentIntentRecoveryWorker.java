@@ -0,0 +1,112 @@
+package com.boot.service;
+
+import com.boot.entity.Payment;
+import com.boot.repository.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 승인 결과를 알 수 없는 결제 복구
+ * - 승인 호출이 타임아웃/PG 5xx 로 끝나 IN_PROGRESS 로 남은 결제를 PG 결제 조회로 확인해 최종 상태 반영
+ * - PG 에서 아직 진행 중이면 그대로 두고 다음 주기에 다시 확인 (PG 가 미승인 결제를 만료 처리하면 EXPIRED/ABORTED 로 확정)
+ * - 메트릭: payment.intent.recovery{result}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIntentRecoveryWorker {
+
+    private final PaymentRepository paymentRepository;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payment.intent-recovery.stale-after-seconds:120}")
+    private long staleAfterSeconds;
+
+    @Value("${payment.intent-recovery.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * 1분마다 오래된 IN_PROGRESS 결제의 PG 상태 확인
+     */
+    @Scheduled(initialDelay = 30000, fixedDelay = 60000)
+    public void recoverStaleIntents() {
+        List<Payment> stale = paymentRepository.findByStatusAndCreatedAtBeforeOrderByIdAsc(
+                Payment.PaymentStatus.IN_PROGRESS,
+                LocalDateTime.now().minusSeconds(staleAfterSeconds),
+                PageRequest.of(0, batchSize));
+        for (Payment payment : stale) {
+            recover(payment);
+        }
+    }
+
+    private void recover(Payment payment) {
+        Payment.PaymentStatus resolved;
+        try {
+            Map<String, Object> tossPayment = tossPaymentsClient.getPayment(payment.getPaymentKey());
+            resolved = toStatus(tossPayment != null ? String.valueOf(tossPayment.get("status")) : null);
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                record("error");
+                log.warn("결제 상태 조회 실패: paymentKey={}, status={}", payment.getPaymentKey(), e.getStatusCode());
+                return;
+            }
+            // PG 에 없는 결제: 승인 요청이 처리되지 않은 것으로 확정
+            resolved = Payment.PaymentStatus.ABORTED;
+        } catch (RestClientException e) {
+            record("error");
+            log.warn("결제 상태 조회 실패: paymentKey={}, error={}", payment.getPaymentKey(), e.getMessage());
+            return;
+        }
+
+        if (resolved == null || resolved == Payment.PaymentStatus.IN_PROGRESS) {
+            record("pending");
+            return;
+        }
+
+        Payment.PaymentStatus finalStatus = resolved;
+        // 그 사이 재시도 요청 등으로 이미 확정된 결제는 건드리지 않음 (IN_PROGRESS 조건부 UPDATE)
+        Integer updated = transactionTemplate.execute(status -> finalStatus == Payment.PaymentStatus.DONE
+                ? paymentRepository.markApprovedIfInProgress(payment.getId(), LocalDateTime.now())
+                : paymentRepository.updateStatusIfIn(payment.getId(), List.of(Payment.PaymentStatus.IN_PROGRESS), finalStatus));
+        if (updated == null || updated == 0) {
+            record("skipped");
+            return;
+        }
+        record(finalStatus.name().toLowerCase());
+        log.info("결과 불명 결제 상태 복구: paymentKey={}, status={}", payment.getPaymentKey(), finalStatus);
+    }
+
+    // 토스페이먼츠 결제 상태 → 내부 상태 (승인 대기 상태는 IN_PROGRESS 유지)
+    private Payment.PaymentStatus toStatus(String tossStatus) {
+        if (tossStatus == null) {
+            return null;
+        }
+        return switch (tossStatus) {
+            case "DONE" -> Payment.PaymentStatus.DONE;
+            case "CANCELED" -> Payment.PaymentStatus.CANCELED;
+            case "PARTIAL_CANCELED" -> Payment.PaymentStatus.PARTIAL_CANCELED;
+            case "ABORTED" -> Payment.PaymentStatus.ABORTED;
+            case "EXPIRED" -> Payment.PaymentStatus.EXPIRED;
+            default -> Payment.PaymentStatus.IN_PROGRESS; // READY, IN_PROGRESS, WAITING_FOR_DEPOSIT
+        };
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("payment.intent.recovery", "result", result).increment();
+    }
+}
@@ -0,0 +1,285 @@
+package com.boot.service;
+
+import com.boot.dto.ReconciliationStatusDto;
+import com.boot.entity.ReconciliationCheckpoint;
+import com.boot.repository.ReconciliationCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결제 ↔ 예매 대사 작업
+ * - 예매(booking + booking_archive)와 결제(payments)를 예매 ID 순으로 키셋 페이지 조회해 병합 조인
+ * - 한 번에 한 페이지만 메모리에 올리므로 건수와 무관하게 메모리 사용량 일정
+ * - 페이지마다 진행 위치를 체크포인트로 저장, 중단되면 다음 실행 때 이어서 처리
+ * - 페이지 사이에 잠시 쉬어 운영(OLTP) 쿼리 지연에 영향을 주지 않도록 함
+ * - 관리자 수동 실행은 전용 스레드에서 비동기로 돌리고 상태만 조회 (동시에 한 실행만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private static final String JOB_NAME = "payment-booking";
+
+    // booking_archive 는 id 를 유지하므로 두 테이블을 합쳐도 예매 ID 는 유일
+    private static final String BOOKING_PAGE_SQL =
+            "SELECT id, booking_status, total_price FROM (" +
+            "  (SELECT id, booking_status, total_price FROM booking WHERE id > ? ORDER BY id LIMIT ?) " +
+            "  UNION ALL " +
+            "  (SELECT id, booking_status, total_price FROM booking_archive WHERE id > ? ORDER BY id LIMIT ?)" +
+            ") b ORDER BY id LIMIT ?";
+
+    private static final String PAYMENT_RANGE_SQL =
+            "SELECT id, booking_id, status, amount FROM payments " +
+            "WHERE booking_id > ? AND booking_id <= ? AND status = 'DONE' ORDER BY booking_id, id";
+
+    // (booking_id, id) 키셋: 한 예매의 결제가 페이지 경계에 걸쳐도 건너뛰지 않음
+    private static final String PAYMENT_TAIL_SQL =
+            "SELECT id, booking_id, status, amount FROM payments " +
+            "WHERE status = 'DONE' AND (booking_id > ? OR (booking_id = ? AND id > ?)) " +
+            "ORDER BY booking_id, id LIMIT ?";
+
+    private static final String INSERT_DISCREPANCY_SQL =
+            "INSERT INTO reconciliation_discrepancy (run_id, type, booking_id, payment_id, booking_status, " +
+            "payment_status, booking_amount, payment_amount, detected_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private record BookingRow(long id, String status, Integer amount) {
+    }
+
+    private record PaymentRow(long id, long bookingId, String status, Integer amount) {
+    }
+
+    private record Discrepancy(String type, Long bookingId, Long paymentId, String bookingStatus,
+                               String paymentStatus, Integer bookingAmount, Integer paymentAmount) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService reconciliationExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${reconciliation.page-size:1000}")
+    private int pageSize;
+
+    @Value("${reconciliation.page-pause-ms:20}")
+    private long pagePauseMs;
+
+    /**
+     * 매일 새벽 2시 대사 실행 (직전 실행이 중단됐으면 이어서)
+     */
+    @Scheduled(cron = "0 0 2 * * *")
+    public void reconcileScheduled() {
+        // 전체 스캔이 스케줄러 스레드를 오래 점유하지 않도록 대사 전용 스레드로 넘김
+        if (!reconcileAsync(false)) {
+            log.info("결제/예매 대사가 이미 실행 중이라 예약 실행을 건너뜀");
+        }
+    }
+
+    /**
+     * 대사를 전용 스레드에서 비동기 실행
+     * @return 이미 실행 중이면 false
+     */
+    public boolean reconcileAsync(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            reconciliationExecutor.execute(() -> {
+                try {
+                    reconcile(restart);
+                } catch (RuntimeException e) {
+                    log.error("결제/예매 대사 실패 (다음 실행 때 체크포인트부터 이어서 처리)", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 대사 작업 상태 (체크포인트 기준)
+     */
+    public ReconciliationStatusDto getStatus(boolean accepted) {
+        ReconciliationStatusDto.ReconciliationStatusDtoBuilder builder = ReconciliationStatusDto.builder()
+                .accepted(accepted)
+                .running(running.get());
+        checkpointRepository.findById(JOB_NAME).ifPresent(checkpoint -> builder
+                .runId(checkpoint.getRunId())
+                .status(checkpoint.getStatus().name())
+                .lastKey(checkpoint.getLastKey())
+                .discrepancies(checkpoint.getDiscrepancies())
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt()));
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciliationExecutor.shutdownNow();
+    }
+
+    /**
+     * 대사 실행
+     * @param restart true 면 진행 중인 실행을 버리고 처음부터
+     * @return 실행 ID
+     */
+    public synchronized String reconcile(boolean restart) {
+        ReconciliationCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> new ReconciliationCheckpoint(JOB_NAME));
+        if (restart || checkpoint.getStatus() != ReconciliationCheckpoint.Status.RUNNING) {
+            checkpoint.start(LocalDateTime.now().toLocalDate() + "-" + UUID.randomUUID().toString().substring(0, 8));
+            checkpoint = checkpointRepository.save(checkpoint);
+            log.info("결제/예매 대사 시작: runId={}", checkpoint.getRunId());
+        } else {
+            log.info("결제/예매 대사 이어서 실행: runId={}, 예매 ID {} 이후", checkpoint.getRunId(), checkpoint.getLastKey());
+        }
+
+        String runId = checkpoint.getRunId();
+        long cursor = checkpoint.getLastKey();
+        long subCursor = checkpoint.getLastSubKey();
+
+        // 1. 예매 페이지 단위 병합: (cursor, 페이지 마지막 예매 ID] 구간의 결제만 함께 조회
+        while (subCursor == 0) {
+            List<BookingRow> bookings = jdbcTemplate.query(BOOKING_PAGE_SQL,
+                    (rs, i) -> new BookingRow(rs.getLong("id"), rs.getString("booking_status"), (Integer) rs.getObject("total_price")),
+                    cursor, pageSize, cursor, pageSize, pageSize);
+            if (bookings.isEmpty()) {
+                break;
+            }
+            long upper = bookings.get(bookings.size() - 1).id();
+            List<PaymentRow> payments = jdbcTemplate.query(PAYMENT_RANGE_SQL, this::mapPayment, cursor, upper);
+
+            List<Discrepancy> found = merge(bookings, payments);
+            cursor = upper;
+            checkpoint = saveProgress(checkpoint, runId, cursor, 0L, found);
+            pause();
+        }
+
+        // 2. 마지막 예매 이후에 남은 결제 (모두 예매 없는 결제)
+        while (true) {
+            // subCursor 0 = cursor 예매의 결제는 모두 처리됨 → 같은 예매 ID 는 다시 읽지 않음
+            long afterId = subCursor == 0 ? Long.MAX_VALUE : subCursor;
+            List<PaymentRow> payments = jdbcTemplate.query(PAYMENT_TAIL_SQL, this::mapPayment,
+                    cursor, cursor, afterId, pageSize);
+            if (payments.isEmpty()) {
+                break;
+            }
+            List<Discrepancy> found = merge(List.of(), payments);
+            PaymentRow last = payments.get(payments.size() - 1);
+            cursor = last.bookingId();
+            subCursor = last.id();
+            checkpoint = saveProgress(checkpoint, runId, cursor, subCursor, found);
+            pause();
+        }
+
+        checkpoint.complete();
+        checkpoint = checkpointRepository.save(checkpoint);
+        log.info("결제/예매 대사 완료: runId={}, 불일치 {}건", runId, checkpoint.getDiscrepancies());
+        return runId;
+    }
+
+    /**
+     * 예매 ID 순으로 정렬된 두 목록 병합 조인
+     */
+    private List<Discrepancy> merge(List<BookingRow> bookings, List<PaymentRow> payments) {
+        List<Discrepancy> found = new ArrayList<>();
+        int b = 0;
+        int p = 0;
+        while (b < bookings.size() || p < payments.size()) {
+            BookingRow booking = b < bookings.size() ? bookings.get(b) : null;
+            PaymentRow payment = p < payments.size() ? payments.get(p) : null;
+
+            if (payment == null || (booking != null && booking.id() < payment.bookingId())) {
+                // 결제 없는 예매
+                if ("CONFIRMED".equals(booking.status())) {
+                    found.add(new Discrepancy("BOOKING_WITHOUT_PAYMENT", booking.id(), null,
+                            booking.status(), null, booking.amount(), null));
+                }
+                b++;
+            } else if (booking == null || payment.bookingId() < booking.id()) {
+                // 예매 없는 결제
+                found.add(new Discrepancy("PAYMENT_WITHOUT_BOOKING", payment.bookingId(), payment.id(),
+                        null, payment.status(), null, payment.amount()));
+                p++;
+            } else {
+                // 같은 예매: 해당 예매의 결제를 모두 소비
+                int count = 0;
+                while (p < payments.size() && payments.get(p).bookingId() == booking.id()) {
+                    PaymentRow matched = payments.get(p++);
+                    count++;
+                    if (count > 1) {
+                        found.add(new Discrepancy("DUPLICATE_PAYMENT", booking.id(), matched.id(),
+                                booking.status(), matched.status(), booking.amount(), matched.amount()));
+                    } else if (!"CONFIRMED".equals(booking.status())) {
+                        found.add(new Discrepancy("PAYMENT_BOOKING_NOT_CONFIRMED", booking.id(), matched.id(),
+                                booking.status(), matched.status(), booking.amount(), matched.amount()));
+                    } else if (booking.amount() == null || !booking.amount().equals(matched.amount())) {
+                        found.add(new Discrepancy("AMOUNT_MISMATCH", booking.id(), matched.id(),
+                                booking.status(), matched.status(), booking.amount(), matched.amount()));
+                    }
+                }
+                b++;
+            }
+        }
+        return found;
+    }
+
+    // 불일치 기록 + 체크포인트 저장 (한 트랜잭션: 재실행 시 같은 페이지 중복 기록 방지)
+    private ReconciliationCheckpoint saveProgress(ReconciliationCheckpoint checkpoint, String runId,
+                                                  long cursor, long subCursor, List<Discrepancy> found) {
+        return transactionTemplate.execute(status -> {
+            if (!found.isEmpty()) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.batchUpdate(INSERT_DISCREPANCY_SQL, found.stream()
+                        .map(d -> new Object[]{runId, d.type(), d.bookingId(), d.paymentId(), d.bookingStatus(),
+                                d.paymentStatus(), d.bookingAmount(), d.paymentAmount(), now})
+                        .toList());
+            }
+            checkpoint.advance(cursor, subCursor, found.size());
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private PaymentRow mapPayment(ResultSet rs, int rowNum) throws SQLException {
+        return new PaymentRow(rs.getLong("id"), rs.getLong("booking_id"), rs.getString("status"), (Integer) rs.getObject("amount"));
+    }
+
+    private void pause() {
+        if (pagePauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pagePauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
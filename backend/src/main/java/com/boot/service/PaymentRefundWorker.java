@@ -0,0 +1,184 @@
+package com.boot.service;
+
+import com.boot.entity.PaymentOutbox;
+import com.boot.repository.PaymentOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 환불 아웃박스 처리 워커
+ * - 예매 취소 트랜잭션이 남긴 payment_outbox 행을 주기적으로 꺼내 PG 결제 취소 호출
+ * - 처리 시각이 된 행을 SELECT ... FOR UPDATE SKIP LOCKED 로 골라 점유(lease) 표시 후 처리
+ *   → 여러 노드가 동시에 돌아도 같은 행에 PG 취소를 호출하지 않음, 노드가 죽으면 lease 만료 후 재점유
+ * - 실패 시 지수 백오프로 재시도, 최대 횟수 초과 시 FAILED (관리자 확인)
+ * - 처리량(counter) / 대기 건수·지연(gauge) 메트릭 노출
+ */
+@Slf4j
+@Service
+public class PaymentRefundWorker {
+
+    public static final String EVENT_PAYMENT_CANCEL = "PAYMENT_CANCEL";
+
+    // 점유 가능한 처리 대기 행 (다른 트랜잭션이 잠근 행은 건너뜀, 점유 중인 행은 next_attempt_at 이 lease 만료 시각)
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT id FROM payment_outbox WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL =
+            "UPDATE payment_outbox SET claimed_by = ?, next_attempt_at = ? WHERE id = ?";
+
+    private final PaymentOutboxRepository outboxRepository;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    // 이 인스턴스의 워커 식별자 (점유 표시용)
+    private final String workerId = "refund-" + UUID.randomUUID();
+
+    private final Counter doneCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer pgTimer;
+    private final AtomicLong pendingGauge = new AtomicLong();
+    private final AtomicLong lagSecondsGauge = new AtomicLong();
+
+    @Value("${payment.refund.batch-size:50}")
+    private int batchSize;
+
+    // 배치 전체(건당 PG 타임아웃 × batch-size)보다 길어야 처리 중에 다른 노드가 재점유하지 않음
+    @Value("${payment.refund.claim-lease-seconds:600}")
+    private long claimLeaseSeconds;
+
+    @Value("${payment.refund.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${payment.refund.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${payment.refund.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    public PaymentRefundWorker(PaymentOutboxRepository outboxRepository,
+                               TossPaymentsClient tossPaymentsClient,
+                               PaymentService paymentService,
+                               TransactionTemplate transactionTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.paymentService = paymentService;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.doneCounter = meterRegistry.counter("payment.refund.outbox", "result", "done");
+        this.retryCounter = meterRegistry.counter("payment.refund.outbox", "result", "retry");
+        this.failedCounter = meterRegistry.counter("payment.refund.outbox", "result", "failed");
+        this.pgTimer = meterRegistry.timer("payment.refund.pg.call");
+        meterRegistry.gauge("payment.refund.outbox.pending", pendingGauge);
+        meterRegistry.gauge("payment.refund.outbox.lag.seconds", lagSecondsGauge);
+    }
+
+    /**
+     * 2초마다 처리 시각이 된 환불 요청 처리
+     */
+    @Scheduled(initialDelay = 10000, fixedDelay = 2000)
+    public void drain() {
+        List<Long> claimedIds = claim();
+        if (!claimedIds.isEmpty()) {
+            List<PaymentOutbox> due = outboxRepository.findAllById(claimedIds).stream()
+                    .sorted(Comparator.comparing(PaymentOutbox::getId))
+                    .toList();
+            for (PaymentOutbox outbox : due) {
+                process(outbox);
+            }
+        }
+        updateBacklogMetrics();
+    }
+
+    // 짧은 트랜잭션 안에서 SKIP LOCKED 로 행을 골라 lease 기록 (PG 호출 동안 DB 락을 잡지 않음)
+    private List<Long> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> selected = jdbcTemplate.queryForList(
+                    SELECT_CLAIMABLE_SQL, Long.class, Timestamp.valueOf(now), batchSize);
+            if (selected.isEmpty()) {
+                return selected;
+            }
+            Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(claimLeaseSeconds));
+            jdbcTemplate.batchUpdate(CLAIM_SQL, selected.stream()
+                    .map(id -> new Object[]{workerId, leaseUntil, id})
+                    .toList());
+            return selected;
+        });
+    }
+
+    // 한 건 처리: PG 호출은 트랜잭션 밖, 결과 반영만 짧은 트랜잭션
+    private void process(PaymentOutbox outbox) {
+        String error = null;
+        try {
+            pgTimer.record(() -> tossPaymentsClient.cancel(
+                    outbox.getPaymentKey(), outbox.getReason(), outbox.getIdempotencyKey()));
+        } catch (HttpStatusCodeException e) {
+            // 이미 취소된 결제는 성공으로 간주
+            if (!e.getResponseBodyAsString().contains("ALREADY_CANCELED_PAYMENT")) {
+                error = e.getStatusCode() + " " + e.getResponseBodyAsString();
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        }
+
+        String failure = error;
+        transactionTemplate.executeWithoutResult(status -> {
+            PaymentOutbox current = outboxRepository.findById(outbox.getId()).orElseThrow();
+            // lease 가 만료돼 다른 워커가 재점유한 행은 그 워커가 결과를 반영
+            if (current.getStatus() != PaymentOutbox.Status.PENDING || !workerId.equals(current.getClaimedBy())) {
+                return;
+            }
+            if (failure == null) {
+                paymentService.markCanceled(current.getPaymentKey(), current.getReason());
+                current.markDone();
+            } else {
+                current.markRetry(failure, LocalDateTime.now().plus(backoff(current.getAttempts())), maxAttempts);
+            }
+        });
+
+        if (failure == null) {
+            doneCounter.increment();
+        } else if (outbox.getAttempts() + 1 >= maxAttempts) {
+            failedCounter.increment();
+            log.error("환불 처리 최종 실패 (수동 확인 필요): outboxId={}, paymentKey={}, error={}",
+                    outbox.getId(), outbox.getPaymentKey(), failure);
+        } else {
+            retryCounter.increment();
+            log.warn("환불 처리 실패, 재시도 예정: outboxId={}, attempts={}, error={}",
+                    outbox.getId(), outbox.getAttempts() + 1, failure);
+        }
+    }
+
+    // 지수 백오프 (base * 2^attempts, 상한 maxBackoffSeconds)
+    private Duration backoff(int attempts) {
+        long seconds = baseBackoffSeconds << Math.min(attempts, 20);
+        return Duration.ofSeconds(Math.min(seconds, maxBackoffSeconds));
+    }
+
+    private void updateBacklogMetrics() {
+        pendingGauge.set(outboxRepository.countByStatus(PaymentOutbox.Status.PENDING));
+        LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt();
+        lagSecondsGauge.set(oldest != null ? Duration.between(oldest, LocalDateTime.now()).toSeconds() : 0);
+    }
+}
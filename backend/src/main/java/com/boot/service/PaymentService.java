@@ -5,87 +5,88 @@ import com.boot.dto.PaymentConfirmRequest;
 import com.boot.entity.Payment;
 import com.boot.repository.PaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 결제 처리
+ * - 토스페이먼츠 호출은 트랜잭션 밖에서 수행 (PG 응답 지연 동안 DB 커넥션을 점유하지 않음)
+ * - 승인: 결제 의도 저장(IN_PROGRESS) → PG 승인 → 완료 처리(DONE) 각각 짧은 트랜잭션
+ * - 승인 결과를 알 수 없는 경우(타임아웃, PG 5xx 등) IN_PROGRESS 로 남겨 재시도 시 같은 결제로 이어서 처리
+ *   (재시도가 없으면 PaymentIntentRecoveryWorker 가 PG 조회로 최종 상태를 반영)
+ * - 이미 IN_PROGRESS 인 결제의 재요청은 PG 를 다시 호출하지 않고 409 (처리 중) 로 응답
+ * - 상태 전이는 모두 현재 상태 조건부 UPDATE (DONE 등 확정 상태를 덮어쓰지 않음)
+ */
 @Service
 public class PaymentService {
 
+    // 토스페이먼츠: 이미 승인된 결제에 대한 승인 재요청 오류 코드
+    private static final String ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT";
+
+    /**
+     * 같은 결제의 승인이 이미 진행 중인 경우 (호출 측은 잠시 후 결제 상태 조회)
+     */
+    public static class PaymentInProgressException extends RuntimeException {
+        public PaymentInProgressException(String message) {
+            super(message);
+        }
+    }
+
     @Autowired
     private PaymentRepository paymentRepository;
 
-    @Value("${toss.payments.secret.key:test_sk_zXLkKEypNArWmo50nX3lmeaxYG5R}")
-    private String tossSecretKey;
+    @Autowired
+    private TossPaymentsClient tossPaymentsClient;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     /**
      * 결제 승인 및 DB 저장
      */
-    @Transactional
     public Map<String, Object> confirmPayment(PaymentConfirmRequest request) {
-        try {
-            // 1. 토스페이먼츠에 결제 승인 요청
-            String url = "https://api.tosspayments.com/v1/payments/confirm";
-
-            String auth = tossSecretKey + ":";
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Basic " + encodedAuth);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("paymentKey", request.getPaymentKey());
-            body.put("orderId", request.getOrderId());
-            body.put("amount", request.getAmount());
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> tossResponse = response.getBody();
-
-            // 2. DB에 결제 정보 저장
-            Payment payment = new Payment();
-            payment.setPaymentKey(request.getPaymentKey());
-            payment.setOrderId(request.getOrderId());
-            payment.setUserId(request.getUserId());
-            payment.setBookingId(request.getBookingId());
-            payment.setAmount(request.getAmount());
-            payment.setMethod(request.getMethod());
-            payment.setOrderName(request.getOrderName());
-            payment.setStatus(Payment.PaymentStatus.DONE);
-            payment.setApprovedAt(LocalDateTime.now());
-
-            paymentRepository.save(payment);
-
-            // 3. 응답 반환
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("payment", payment);
-            result.put("tossResponse", tossResponse);
-
-            return result;
+        // 1. 결제 의도 저장 (짧은 트랜잭션, 이 요청이 승인 진행권을 얻은 경우에만 PG 호출)
+        Payment intent = claimIntent(request);
+        if (intent.getStatus() == Payment.PaymentStatus.DONE) {
+            // 이미 승인된 결제 재요청
+            return result(intent, null);
+        }
 
-        } catch (Exception e) {
+        // 2. 토스페이먼츠에 결제 승인 요청 (트랜잭션 밖)
+        Map<String, Object> tossResponse;
+        try {
+            tossResponse = tossPaymentsClient.confirm(request.getPaymentKey(), request.getOrderId(), request.getAmount());
+        } catch (HttpStatusCodeException e) {
+            // 이미 승인된 결제: 앞선 승인 요청이 성공한 것이므로 완료 처리
+            if (e.getStatusCode().is4xxClientError() && e.getResponseBodyAsString().contains(ALREADY_PROCESSED_PAYMENT)) {
+                return result(markApproved(intent.getId()), null);
+            }
+            // PG 가 승인을 거절한 경우(4xx)만 중단 처리, 5xx 는 승인 여부를 알 수 없으므로 IN_PROGRESS 유지
+            if (e.getStatusCode().is4xxClientError()) {
+                transactionTemplate.executeWithoutResult(status -> paymentRepository.updateStatusIfIn(intent.getId(),
+                        List.of(Payment.PaymentStatus.IN_PROGRESS), Payment.PaymentStatus.ABORTED));
+            }
+            throw new RuntimeException("결제 승인 실패: " + e.getMessage());
+        } catch (RestClientException e) {
+            // 타임아웃 등 결과 불명: IN_PROGRESS 유지
             throw new RuntimeException("결제 승인 실패: " + e.getMessage());
         }
+
+        // 3. 완료 처리 (짧은 트랜잭션)
+        return result(markApproved(intent.getId()), tossResponse);
     }
 
     /**
      * 결제 취소 및 DB 업데이트
      */
-    @Transactional
     public Map<String, Object> cancelPayment(PaymentCancelRequest request) {
         try {
             // 1. DB에서 결제 정보 조회
@@ -97,41 +98,100 @@ public class PaymentService {
                 throw new RuntimeException("이미 취소된 결제입니다.");
             }
 
-            // 3. 토스페이먼츠에 취소 요청
-            String url = "https://api.tosspayments.com/v1/payments/" + request.getPaymentKey() + "/cancel";
+            // 3. 토스페이먼츠에 취소 요청 (트랜잭션 밖)
+            Map<String, Object> tossResponse = tossPaymentsClient.cancel(request.getPaymentKey(), request.getCancelReason());
 
-            String auth = tossSecretKey + ":";
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+            // 4. DB 상태 업데이트 (짧은 트랜잭션)
+            Payment canceled = transactionTemplate.execute(status ->
+                    markCanceled(payment.getPaymentKey(), request.getCancelReason()));
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Basic " + encodedAuth);
+            // 5. 응답 반환
+            return result(canceled, tossResponse);
 
-            Map<String, String> body = new HashMap<>();
-            body.put("cancelReason", request.getCancelReason());
+        } catch (Exception e) {
+            throw new RuntimeException("결제 취소 실패: " + e.getMessage());
+        }
+    }
 
-            HttpEntity<Map<String, String>> entity = new HttpEntity<>(body, headers);
+    /**
+     * 결제를 취소 상태로 변경 (PG 취소 완료 후 호출, 호출 측 트랜잭션에 참여)
+     */
+    public Payment markCanceled(String paymentKey, String cancelReason) {
+        int updated = paymentRepository.markCanceledIfIn(paymentKey,
+                List.of(Payment.PaymentStatus.DONE, Payment.PaymentStatus.PARTIAL_CANCELED),
+                cancelReason, LocalDateTime.now());
+        Payment payment = paymentRepository.findByPaymentKey(paymentKey)
+                .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다."));
+        if (updated == 0 && payment.getStatus() != Payment.PaymentStatus.CANCELED) {
+            throw new IllegalStateException("취소할 수 없는 결제 상태입니다: " + payment.getStatus());
+        }
+        return payment;
+    }
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            Map<String, Object> tossResponse = response.getBody();
+    /**
+     * 승인 진행권 획득
+     * - 신규 결제: IN_PROGRESS 로 저장 (같은 paymentKey 동시 첫 요청은 유니크 키 충돌 → 기존 행 재조회)
+     * - ABORTED/READY: 조건부 UPDATE 로 IN_PROGRESS 전이에 성공한 요청만 진행
+     * - DONE: 그대로 반환, IN_PROGRESS: 다른 요청이 진행 중이므로 409
+     * - 취소/만료된 결제는 다시 승인하지 않음
+     */
+    private Payment claimIntent(PaymentConfirmRequest request) {
+        Payment payment = paymentRepository.findByPaymentKey(request.getPaymentKey()).orElse(null);
+        if (payment == null) {
+            try {
+                return transactionTemplate.execute(status -> paymentRepository.saveAndFlush(newIntent(request)));
+            } catch (DataIntegrityViolationException e) {
+                payment = paymentRepository.findByPaymentKey(request.getPaymentKey()).orElseThrow(() -> e);
+            }
+        }
 
-            // 4. DB 상태 업데이트
-            payment.setStatus(Payment.PaymentStatus.CANCELED);
-            payment.setCancelReason(request.getCancelReason());
-            payment.setCanceledAt(LocalDateTime.now());
-            paymentRepository.save(payment);
+        switch (payment.getStatus()) {
+            case DONE -> {
+                return payment;
+            }
+            case IN_PROGRESS -> throw new PaymentInProgressException("결제 승인이 이미 진행 중입니다.");
+            case ABORTED, READY -> {
+                Long paymentId = payment.getId();
+                Integer claimed = transactionTemplate.execute(status -> paymentRepository.updateStatusIfIn(paymentId,
+                        List.of(Payment.PaymentStatus.ABORTED, Payment.PaymentStatus.READY), Payment.PaymentStatus.IN_PROGRESS));
+                if (claimed == null || claimed == 0) {
+                    throw new PaymentInProgressException("결제 승인이 이미 진행 중입니다.");
+                }
+                payment.setStatus(Payment.PaymentStatus.IN_PROGRESS);
+                return payment;
+            }
+            default -> throw new IllegalStateException("승인할 수 없는 결제 상태입니다: " + payment.getStatus());
+        }
+    }
 
-            // 5. 응답 반환
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("payment", payment);
-            result.put("tossResponse", tossResponse);
+    private Payment newIntent(PaymentConfirmRequest request) {
+        Payment payment = new Payment();
+        payment.setPaymentKey(request.getPaymentKey());
+        payment.setOrderId(request.getOrderId());
+        payment.setUserId(request.getUserId());
+        payment.setBookingId(request.getBookingId());
+        payment.setAmount(request.getAmount());
+        payment.setMethod(request.getMethod());
+        payment.setOrderName(request.getOrderName());
+        payment.setStatus(Payment.PaymentStatus.IN_PROGRESS);
+        return payment;
+    }
 
-            return result;
+    // IN_PROGRESS → DONE (그 사이 복구 작업 등이 확정했으면 그 상태를 그대로 반환)
+    private Payment markApproved(Long paymentId) {
+        return transactionTemplate.execute(status -> {
+            paymentRepository.markApprovedIfInProgress(paymentId, LocalDateTime.now());
+            return paymentRepository.findById(paymentId)
+                    .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다."));
+        });
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException("결제 취소 실패: " + e.getMessage());
-        }
+    private Map<String, Object> result(Payment payment, Map<String, Object> tossResponse) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("payment", payment);
+        result.put("tossResponse", tossResponse);
+        return result;
     }
 
     /**
@@ -145,8 +205,14 @@ public class PaymentService {
      * 예매별 결제 정보 조회
      */
     public Payment getPaymentByBookingId(Long bookingId) {
+        // 승인 시도마다 행이 남으므로 승인 완료(또는 취소)된 결제 우선, 없으면 가장 최근 시도
         List<Payment> payments = paymentRepository.findByBookingId(bookingId);
-        return payments.isEmpty() ? null : payments.get(0);
+        return payments.stream()
+                .filter(p -> p.getStatus() == Payment.PaymentStatus.DONE
+                        || p.getStatus() == Payment.PaymentStatus.PARTIAL_CANCELED
+                        || p.getStatus() == Payment.PaymentStatus.CANCELED)
+                .findFirst()
+                .orElse(payments.isEmpty() ? null : payments.get(payments.size() - 1));
     }
 
     /**
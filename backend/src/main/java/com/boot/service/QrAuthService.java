@@ -4,87 +4,56 @@ import com.boot.dto.QrSessionStatusResponse;
 import com.boot.dto.QrSessionStatusResponse.QrAuthStatus;
 import com.boot.dto.TokenInfo;
 import com.boot.jwt.JwtTokenProvider;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import com.boot.service.QrSessionStore.QrSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.async.DeferredResult;
 
-import java.time.Duration;
-import java.util.UUID;
-
+@Slf4j
 @Service
 public class QrAuthService {
 
-    private static final String QR_SESSION_KEY_PREFIX = "qr:session:";
-    private static final Duration QR_SESSION_TIMEOUT = Duration.ofMinutes(5); // 5분 만료
-
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final QrSessionStore sessionStore;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
     private final UserService userService; // UserService 주입
+    private final long longPollTimeoutMillis;
 
-    public QrAuthService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+    public QrAuthService(QrSessionStore sessionStore,
                          JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService,
-                         UserService userService) { // 생성자에 UserService 추가
-        this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+                         UserService userService,
+                         @Value("${qr.session.long-poll-timeout-seconds:25}") long longPollTimeoutSeconds) {
+        this.sessionStore = sessionStore;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
         this.userService = userService;
-    }
-
-    @Data
-    @NoArgsConstructor
-    @AllArgsConstructor
-    private static class QrSessionState {
-        private QrAuthStatus status;
-        private String userId;
-        private String jwtToken;
+        this.longPollTimeoutMillis = longPollTimeoutSeconds * 1000;
     }
 
     public String generateSession() {
-        String sessionId = UUID.randomUUID().toString();
-        String redisKey = QR_SESSION_KEY_PREFIX + sessionId;
-
-        QrSessionState initialState = new QrSessionState(QrAuthStatus.PENDING, null, null);
-        try {
-            String sessionJson = objectMapper.writeValueAsString(initialState);
-            redisTemplate.opsForValue().set(redisKey, sessionJson, QR_SESSION_TIMEOUT);
-            System.out.println("Generated QR session in Redis: " + sessionId);
-        } catch (JsonProcessingException e) {
-            System.err.println("Error serializing QR session state: " + e.getMessage());
-            throw new RuntimeException("Failed to generate QR session.", e);
-        }
+        String sessionId = sessionStore.create();
+        log.debug("QR 세션 생성: {}", sessionId);
         return sessionId;
     }
 
     public boolean authenticateSession(String sessionId, String mobileAuthToken, String username, String password) {
-        String redisKey = QR_SESSION_KEY_PREFIX + sessionId;
-        ValueOperations<String, String> ops = redisTemplate.opsForValue();
-        String sessionJson = ops.get(redisKey);
+        QrSession session = sessionStore.find(sessionId);
 
-        if (sessionJson == null) {
-            System.out.println("Session " + sessionId + " not found or expired in Redis.");
+        if (session == null) {
+            log.info("QR 세션 없음 또는 만료: {}", sessionId);
+            return false;
+        }
+        if (session.status() != QrAuthStatus.PENDING) {
+            log.info("QR 세션이 PENDING 상태가 아님: {}, 현재 = {}", sessionId, session.status());
             return false;
         }
 
         try {
-            QrSessionState sessionState = objectMapper.readValue(sessionJson, QrSessionState.class);
-
-            if (sessionState.getStatus() != QrAuthStatus.PENDING) {
-                System.out.println("Session " + sessionId + " is not in PENDING state. Current: " + sessionState.getStatus());
-                return false;
-            }
-
             String userIdentifier;
             String webJwtToken;
 
@@ -92,8 +61,8 @@ public class QrAuthService {
             if (StringUtils.hasText(mobileAuthToken)) {
                 // 기존 로직: 모바일 토큰으로 인증
                 if (!jwtTokenProvider.validateToken(mobileAuthToken)) {
-                    updateSessionStatus(redisKey, sessionState, QrAuthStatus.FAILED, null, null);
-                    System.out.println("Session " + sessionId + " authentication failed: Invalid mobileAuthToken.");
+                    fail(sessionId);
+                    log.info("QR 세션 인증 실패 (유효하지 않은 모바일 토큰): {}", sessionId);
                     return false;
                 }
                 userIdentifier = jwtTokenProvider.getUserPk(mobileAuthToken);
@@ -102,7 +71,9 @@ public class QrAuthService {
                                 .findFirst()
                                 .map(grantedAuthority -> grantedAuthority.getAuthority())
                                 .orElse("ROLE_USER");
-                webJwtToken = jwtTokenProvider.createToken(userIdentifier, userRole);
+                // 모바일 토큰의 연령대 클레임을 웹 토큰에 그대로 전달
+                webJwtToken = jwtTokenProvider.createToken(userIdentifier, userRole,
+                        jwtTokenProvider.getAgeBand(mobileAuthToken));
 
             } else if (StringUtils.hasText(username) && StringUtils.hasText(password)) {
                 // 새로운 로직: username/password로 인증
@@ -111,60 +82,58 @@ public class QrAuthService {
                     userIdentifier = username;
                     webJwtToken = tokenInfo.getAccessToken(); // 로그인 성공 후 발급된 토큰 사용
                 } catch (AuthenticationException | IllegalArgumentException e) {
-                    updateSessionStatus(redisKey, sessionState, QrAuthStatus.FAILED, null, null);
-                    System.out.println("Session " + sessionId + " authentication failed for user " + username + ": " + e.getMessage());
+                    fail(sessionId);
+                    log.info("QR 세션 인증 실패: {}, 사용자 = {}, 에러 = {}", sessionId, username, e.getMessage());
                     return false;
                 }
             } else {
                 // 인증 정보가 전혀 없는 경우
-                updateSessionStatus(redisKey, sessionState, QrAuthStatus.FAILED, null, null);
-                System.out.println("Session " + sessionId + " authentication failed: No credentials provided.");
+                fail(sessionId);
+                log.info("QR 세션 인증 실패 (인증 정보 없음): {}", sessionId);
                 return false;
             }
 
-            // 2. 인증 성공 후 세션 상태 업데이트
-            updateSessionStatus(redisKey, sessionState, QrAuthStatus.AUTHENTICATED, userIdentifier, webJwtToken);
-            System.out.println("Session " + sessionId + " authenticated by user: " + userIdentifier + " in Redis.");
+            // 2. 인증 성공 후 세션 상태 업데이트 (그 사이 다른 요청이 처리했으면 실패)
+            if (!sessionStore.transition(sessionId, QrAuthStatus.PENDING, QrAuthStatus.AUTHENTICATED, userIdentifier, webJwtToken)) {
+                log.info("QR 세션이 이미 처리되었거나 만료됨: {}", sessionId);
+                return false;
+            }
+            log.info("QR 세션 인증 완료: {}, 사용자 = {}", sessionId, userIdentifier);
             return true;
 
-        } catch (JsonProcessingException e) {
-            System.err.println("Error processing QR session state for " + sessionId + ": " + e.getMessage());
-            throw new RuntimeException("Failed to process QR session state.", e);
         } catch (Exception e) {
             // 예상치 못한 오류 발생 시 FAILED 처리
             try {
-                QrSessionState sessionState = objectMapper.readValue(ops.get(redisKey), QrSessionState.class);
-                updateSessionStatus(redisKey, sessionState, QrAuthStatus.FAILED, null, null);
+                fail(sessionId);
             } catch (Exception innerEx) {
-                System.err.println("Failed to update session to FAILED after an exception: " + innerEx.getMessage());
+                log.warn("QR 세션 FAILED 전환 실패: {}, 에러 = {}", sessionId, innerEx.getMessage());
             }
-            System.out.println("Session " + sessionId + " authentication failed due to internal error: " + e.getMessage());
+            log.error("QR 세션 인증 중 내부 오류: {}", sessionId, e);
             return false;
         }
     }
 
-    private void updateSessionStatus(String redisKey, QrSessionState sessionState, QrAuthStatus status, String userId, String jwtToken) throws JsonProcessingException {
-        sessionState.setStatus(status);
-        sessionState.setUserId(userId);
-        sessionState.setJwtToken(jwtToken);
-        redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(sessionState), QR_SESSION_TIMEOUT);
+    private void fail(String sessionId) {
+        sessionStore.transition(sessionId, QrAuthStatus.PENDING, QrAuthStatus.FAILED, null, null);
     }
 
     public QrSessionStatusResponse getSessionStatus(String sessionId) {
-        String redisKey = QR_SESSION_KEY_PREFIX + sessionId;
-        String sessionJson = redisTemplate.opsForValue().get(redisKey);
+        return toResponse(sessionId, sessionStore.find(sessionId));
+    }
 
-        if (sessionJson == null) {
-            return new QrSessionStatusResponse(sessionId, QrAuthStatus.EXPIRED, null, "Session not found or expired.");
-        }
+    /**
+     * 상태가 since 에서 바뀔 때까지 대기 후 응답 (롱 폴링, 타임아웃 시 현재 상태)
+     */
+    public DeferredResult<QrSessionStatusResponse> awaitSessionStatus(String sessionId, QrAuthStatus since) {
+        return sessionStore.awaitChange(sessionId, since, longPollTimeoutMillis,
+                session -> toResponse(sessionId, session));
+    }
 
-        try {
-            QrSessionState sessionState = objectMapper.readValue(sessionJson, QrSessionState.class);
-            String token = (sessionState.getStatus() == QrAuthStatus.AUTHENTICATED) ? sessionState.getJwtToken() : null;
-            return new QrSessionStatusResponse(sessionId, sessionState.getStatus(), token, "Current status: " + sessionState.getStatus().name());
-        } catch (JsonProcessingException e) {
-            System.err.println("Error deserializing QR session state for " + sessionId + ": " + e.getMessage());
-            throw new RuntimeException("Failed to get QR session status.", e);
+    private QrSessionStatusResponse toResponse(String sessionId, QrSession session) {
+        if (session == null) {
+            return new QrSessionStatusResponse(sessionId, QrAuthStatus.EXPIRED, null, "Session not found or expired.");
         }
+        String token = (session.status() == QrAuthStatus.AUTHENTICATED) ? session.token() : null;
+        return new QrSessionStatusResponse(sessionId, session.status(), token, "Current status: " + session.status().name());
     }
 }
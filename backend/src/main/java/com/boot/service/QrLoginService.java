@@ -1,36 +1,49 @@
 package com.boot.service;
 
 import com.boot.dto.QrSessionDto;
+import com.boot.dto.QrSessionStatusResponse.QrAuthStatus;
+import com.boot.service.QrSessionStore.QrSession;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Service
 public class QrLoginService {
 
-    // 세션 정보를 메모리에 저장 (실제 프로덕션에서는 Redis 등을 사용하는 것이 좋습니다)
-    private final Map<String, QrSessionDto> qrSessions = new ConcurrentHashMap<>();
+    // 세션 정보는 QR 인증과 같은 Redis 세션 저장소(TTL 적용)에 보관
+    private final QrSessionStore sessionStore;
+    private final long longPollTimeoutMillis;
+
+    public QrLoginService(QrSessionStore sessionStore,
+                          @Value("${qr.session.long-poll-timeout-seconds:25}") long longPollTimeoutSeconds) {
+        this.sessionStore = sessionStore;
+        this.longPollTimeoutMillis = longPollTimeoutSeconds * 1000;
+    }
 
     /**
      * 새로운 QR 로그인 세션을 생성합니다.
      * @return 생성된 세션 정보
      */
     public QrSessionDto createSession() {
-        String sessionId = UUID.randomUUID().toString();
-        QrSessionDto session = new QrSessionDto(sessionId, "PENDING", null);
-        qrSessions.put(sessionId, session);
-        return session;
+        String sessionId = sessionStore.create();
+        return new QrSessionDto(sessionId, "PENDING", null);
     }
 
     /**
      * 세션의 현재 상태를 조회합니다.
      * @param sessionId 세션 ID
-     * @return 세션 정보
+     * @return 세션 정보 (없거나 만료되면 null)
      */
     public QrSessionDto getSessionStatus(String sessionId) {
-        return qrSessions.get(sessionId);
+        return toDto(sessionStore.find(sessionId));
+    }
+
+    /**
+     * 세션 상태가 PENDING 에서 바뀔 때까지 대기 후 응답합니다. (롱 폴링, 만료 시 null)
+     * @param sessionId 세션 ID
+     */
+    public DeferredResult<QrSessionDto> awaitSessionStatus(String sessionId) {
+        return sessionStore.awaitChange(sessionId, QrAuthStatus.PENDING, longPollTimeoutMillis, QrLoginService::toDto);
     }
 
     /**
@@ -41,16 +54,19 @@ public class QrLoginService {
      * @return 처리 결과
      */
     public boolean scanSession(String sessionId, String userToken) {
-        QrSessionDto session = qrSessions.get(sessionId);
-        if (session != null && "PENDING".equals(session.getStatus())) {
-            session.setStatus("SCANNED");
-            // 실제 앱에서는 토큰 유효성 검증 후 사용자 정보를 연결해야 합니다.
-            // 여기서는 시뮬레이션을 위해 바로 토큰을 저장하고 상태를 변경합니다.
-            session.setUserToken(userToken);
-            session.setStatus("COMPLETED");
-            qrSessions.put(sessionId, session);
-            return true;
+        // 실제 앱에서는 토큰 유효성 검증 후 사용자 정보를 연결해야 합니다.
+        // 여기서는 시뮬레이션을 위해 바로 토큰을 저장하고 상태를 변경합니다.
+        return sessionStore.transition(sessionId, QrAuthStatus.PENDING, QrAuthStatus.AUTHENTICATED, null, userToken);
+    }
+
+    private static QrSessionDto toDto(QrSession session) {
+        if (session == null) {
+            return null;
         }
-        return false;
+        String status = switch (session.status()) {
+            case AUTHENTICATED -> "COMPLETED";
+            default -> session.status().name();
+        };
+        return new QrSessionDto(session.sessionId(), status, session.token());
     }
 }
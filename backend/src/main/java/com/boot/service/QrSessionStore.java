@@ -0,0 +1,152 @@
+package com.boot.service;
+
+import com.boot.dto.QrSessionStatusResponse.QrAuthStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * QR 로그인 세션 저장소 (Redis 해시, TTL 적용)
+ * - 상태 전이는 Lua 스크립트로 원자적으로 처리하고, 전이 시 세션 ID 를 pub/sub 채널로 발행
+ * - 상태를 기다리는 브라우저는 롱 폴링(DeferredResult)으로 대기하며, 대기 중에는 Redis 조회가 없음
+ *   (알림을 받은 노드가 세션을 한 번만 읽어 대기자 전체에 응답)
+ */
+@Slf4j
+@Component
+public class QrSessionStore implements MessageListener {
+
+    private static final String KEY_PREFIX = "qr:session:";
+    private static final String CHANNEL = "qr:session:events";
+
+    // KEYS[1]=세션 키, ARGV: 기대 상태, 새 상태, userId, token, TTL(ms), 채널, 세션 ID
+    private static final DefaultRedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'status') ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'status', ARGV[2], 'userId', ARGV[3], 'token', ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('PUBLISH', ARGV[6], ARGV[7]) " +
+            "return 1", Long.class);
+
+    // KEYS[1]=세션 키, ARGV: 초기 상태, TTL(ms) — 생성과 만료 설정을 한 번에 (만료 없는 세션이 남지 않도록)
+    private static final DefaultRedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'status', ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration ttl;
+
+    // 세션 ID → 이 노드에서 상태 변경을 기다리는 콜백
+    private final Map<String, Set<Consumer<QrSession>>> waiters = new ConcurrentHashMap<>();
+
+    public QrSessionStore(StringRedisTemplate redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${qr.session.ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public record QrSession(String sessionId, QrAuthStatus status, String userId, String token) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * PENDING 상태의 새 세션 생성
+     */
+    public String create() {
+        String sessionId = UUID.randomUUID().toString();
+        String key = KEY_PREFIX + sessionId;
+        redisTemplate.execute(CREATE_SCRIPT, List.of(key), QrAuthStatus.PENDING.name(), String.valueOf(ttl.toMillis()));
+        return sessionId;
+    }
+
+    /**
+     * 세션 조회 (없거나 만료되면 null)
+     */
+    public QrSession find(String sessionId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + sessionId,
+                List.of("status", "userId", "token"));
+        if (values == null || values.get(0) == null) {
+            return null;
+        }
+        return new QrSession(sessionId, QrAuthStatus.valueOf((String) values.get(0)),
+                emptyToNull(values.get(1)), emptyToNull(values.get(2)));
+    }
+
+    /**
+     * 현재 상태가 expected 일 때만 next 로 전이 (성공 시 대기 중인 브라우저에 알림)
+     */
+    public boolean transition(String sessionId, QrAuthStatus expected, QrAuthStatus next, String userId, String token) {
+        Long updated = redisTemplate.execute(TRANSITION_SCRIPT, List.of(KEY_PREFIX + sessionId),
+                expected.name(), next.name(), userId != null ? userId : "", token != null ? token : "",
+                String.valueOf(ttl.toMillis()), CHANNEL, sessionId);
+        return updated != null && updated == 1L;
+    }
+
+    /**
+     * 세션 상태가 knownStatus 에서 바뀔 때까지 대기 (롱 폴링)
+     * - 이미 바뀌었거나 세션이 없으면 즉시 응답
+     * - 타임아웃 시 현재 상태로 응답 (클라이언트는 다시 요청)
+     */
+    public <T> DeferredResult<T> awaitChange(String sessionId, QrAuthStatus knownStatus, long timeoutMillis,
+                                             Function<QrSession, T> mapper) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        Consumer<QrSession> waiter = session -> result.setResult(mapper.apply(session));
+        waiters.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+        result.onCompletion(() -> removeWaiter(sessionId, waiter));
+        result.onTimeout(() -> result.setResult(mapper.apply(find(sessionId))));
+
+        // 등록 전에 상태가 바뀐 경우를 놓치지 않도록 한 번 확인
+        QrSession current = find(sessionId);
+        if (current == null || current.status() != knownStatus) {
+            result.setResult(mapper.apply(current));
+        }
+        return result;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sessionId = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<Consumer<QrSession>> sessionWaiters = waiters.remove(sessionId);
+        if (sessionWaiters == null || sessionWaiters.isEmpty()) {
+            return;
+        }
+        QrSession session = find(sessionId);
+        sessionWaiters.forEach(waiter -> waiter.accept(session));
+        log.debug("QR 세션 상태 변경 알림: sessionId={}, waiters={}", sessionId, sessionWaiters.size());
+    }
+
+    private void removeWaiter(String sessionId, Consumer<QrSession> waiter) {
+        waiters.computeIfPresent(sessionId, (id, set) -> {
+            set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static String emptyToNull(Object value) {
+        return value == null || ((String) value).isEmpty() ? null : (String) value;
+    }
+}
@@ -204,8 +204,8 @@ public class QuickMatchService {
 
     /**
      * 5) 퀵매치 결과 조회 (요약 + 추천 영화 리스트)
+     * - LLM 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (세션/피드백 조회는 각각 짧은 조회)
      */
-    @Transactional(readOnly = true)
     public QuickMatchResultResponse getResult(String sessionId) {
 
         // 1) 세션 & 피드백 조회
@@ -745,8 +745,7 @@ public class QuickMatchService {
      *   지금 카드에 떠 있는 currentMovieId 를 제외한 것 중 하나 반환
      */
     // QuickMatchService.java 내부
-
-    @Transactional(readOnly = true)
+    // LLM 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
     public QuickMatchRecommendationDto getAlternativeRecommendation(
             String sessionId,
             String currentMovieId
@@ -0,0 +1,148 @@
+package com.boot.service;
+
+import com.boot.config.RateLimitProperties;
+import com.boot.config.RateLimitProperties.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 토큰 버킷 기반 분산 요청 제한
+ * - 버킷은 (라우트, 사용자 또는 IP) 단위로 Redis 해시에 저장하고 Lua 스크립트로 원자적으로 소모
+ * - 시간은 Redis 서버 시각(TIME)을 사용해 노드 간 시계 차이의 영향을 받지 않음
+ * - 한 번 차단된 키는 재시도 가능 시각까지 로컬에서 바로 거절 (Redis 왕복 생략)
+ * - Redis 장애 시에는 요청을 허용 (가용성 우선)
+ */
+@Slf4j
+@Service
+public class RateLimiterService {
+
+    private static final String KEY_PREFIX = "rl:";
+
+    // KEYS[1]=버킷 키, ARGV: capacity, refillPerMs
+    // 반환: {허용 여부(1/0), 재시도까지 남은 ms}
+    private static final DefaultRedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[2]) " +
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local b = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(b[1]) or capacity " +
+            "local ts = tonumber(b[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+            "local allowed = 0 " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 allowed = 1 " +
+            "else wait = math.ceil((1 - tokens) / rate) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000) " +
+            "return {allowed, wait}", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // 버킷 키 → 로컬 차단 해제 시각(ms)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    public RateLimiterService(StringRedisTemplate redisTemplate, RateLimitProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 제한 검사 결과 (retryAfterMillis 는 거절 시에만 의미 있음)
+     */
+    public record Decision(boolean allowed, String route, long retryAfterMillis) {
+        static final Decision UNLIMITED = new Decision(true, null, 0);
+    }
+
+    /**
+     * 요청에 해당하는 라우트 버킷에서 토큰 1개 소모
+     *
+     * @param clientKey 사용자 식별자 (로그인 사용자는 이메일, 비로그인은 IP)
+     */
+    public Decision tryAcquire(String method, String path, String clientKey) {
+        if (!properties.isEnabled()) {
+            return Decision.UNLIMITED;
+        }
+        Route route = findRoute(method, path);
+        if (route == null) {
+            return Decision.UNLIMITED;
+        }
+
+        String key = KEY_PREFIX + route.getName() + ":" + clientKey;
+        long now = System.currentTimeMillis();
+        Long until = blockedUntil.get(key);
+        if (until != null) {
+            if (until > now) {
+                record(route, "throttled_local");
+                return new Decision(false, route.getName(), until - now);
+            }
+            blockedUntil.remove(key, until);
+        }
+
+        try {
+            double refillPerMs = route.getRefillPerSecond() / 1000.0;
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(route.getCapacity()), String.valueOf(refillPerMs));
+            if (result == null || result.size() < 2) {
+                record(route, "error");
+                return Decision.UNLIMITED;
+            }
+            if (((Number) result.get(0)).longValue() == 1L) {
+                record(route, "allowed");
+                return new Decision(true, route.getName(), 0);
+            }
+            long waitMillis = ((Number) result.get(1)).longValue();
+            blockedUntil.put(key, now + waitMillis);
+            record(route, "throttled");
+            return new Decision(false, route.getName(), waitMillis);
+        } catch (DataAccessException e) {
+            log.debug("요청 제한 검사 실패 (Redis 연결 확인 필요), 요청 허용: {}", e.getMessage());
+            record(route, "error");
+            return Decision.UNLIMITED;
+        }
+    }
+
+    /**
+     * 1분마다 해제 시각이 지난 로컬 차단 항목 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredBlocks() {
+        long now = System.currentTimeMillis();
+        blockedUntil.values().removeIf(until -> until <= now);
+    }
+
+    private Route findRoute(String method, String path) {
+        for (Route route : properties.getRoutes()) {
+            if (!route.getMethods().isEmpty()
+                    && !route.getMethods().contains(method.toUpperCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String pattern : route.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void record(Route route, String result) {
+        meterRegistry.counter("rate.limit.requests", "route", route.getName(), "result", result).increment();
+    }
+}
@@ -3,7 +3,6 @@ package com.boot.service;
 import com.boot.entity.Rating;
 import com.boot.entity.User;
 import com.boot.repository.RatingRepository;
-import com.boot.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -19,11 +18,11 @@ import java.util.stream.Collectors;
 public class RatingService {
 
     private final RatingRepository ratingRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     // 별점 추가 또는 수정
     public void addOrUpdateRating(String userEmail, String movieId, double rating) { // Long -> String
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         ratingRepository.findByUserAndMovieId(user, movieId)
@@ -46,7 +45,7 @@ public class RatingService {
     // 사용자가 매긴 모든 별점 정보 조회 (UserProfileService에서 사용)
     @Transactional(readOnly = true)
     public Map<String, Integer> getUserRatings(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         List<Rating> ratings = ratingRepository.findByUserId(user.getId());
@@ -61,7 +60,7 @@ public class RatingService {
     // 기존 메서드 이름 변경 (혼동 방지)
     @Transactional(readOnly = true)
     public Map<String, Double> getRatingsByUser(String userEmail) { // Map<Long, Double> -> Map<String, Double>
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         List<Rating> ratings = ratingRepository.findByUserId(user.getId());
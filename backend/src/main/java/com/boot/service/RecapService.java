@@ -23,7 +23,7 @@ public class RecapService {
 
     private static final Logger logger = LoggerFactory.getLogger(RecapService.class);
 
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
     private final WatchlistRepository watchlistRepository;
     private final ReviewRepository reviewRepository;
     private final RatingRepository ratingRepository;
@@ -282,7 +282,7 @@ public class RecapService {
             throw new RuntimeException("Not authenticated");
         }
         String userEmail = authentication.getName();
-        return userService.findByEmail(userEmail)
+        return currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> {
                     logger.error("'{}' 이메일에 해당하는 사용자를 찾을 수 없습니다.", userEmail);
                     return new RuntimeException("User not found");
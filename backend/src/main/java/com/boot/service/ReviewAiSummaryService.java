@@ -7,29 +7,27 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewAiSummaryService {
 
+    private static final String SYSTEM_PROMPT =
+            "너는 영화 리뷰를 한국어로 요약하고 감정을 분석하는 어시스턴트다. 반드시 유효한 JSON만 출력한다.";
+
     private final ObjectMapper objectMapper;
     private final ReviewSelector reviewSelector;
+    private final LlmGateway llmGateway;
 
-    @Value("${openai.api-key}")
-    private String openAiApiKey;
-
-    private final RestClient openAiClient = RestClient.builder()
-            .baseUrl("https://api.openai.com/v1")
-            .build();
-
+    /**
+     * 리뷰 요약 생성
+     *
+     * @throws LlmGateway.LlmUnavailableException LLM 을 사용할 수 없는 경우 (호출 측에서 저장하지 않고 대체 응답)
+     */
     public ReviewSummaryDto summarize(List<MovieReviewDto> reviews) {
 
         long startTotal = System.currentTimeMillis(); // 시작 시간 찍기
@@ -51,7 +49,7 @@ public class ReviewAiSummaryService {
         String prompt = buildPrompt(reviewTextBlock);
 
         // 실제 LLM 호출
-        String llmResponseJson = callLlm(prompt);
+        String llmResponseJson = llmGateway.complete("review.summary", SYSTEM_PROMPT, prompt, true);
 
         try {
             JsonNode node = objectMapper.readTree(llmResponseJson);
@@ -82,6 +80,20 @@ public class ReviewAiSummaryService {
         }
     }
 
+    /**
+     * LLM 을 사용할 수 없을 때 내려주는 임시 요약 (DB 에 저장하지 않음)
+     */
+    public ReviewSummaryDto unavailableSummary() {
+        return ReviewSummaryDto.builder()
+                .goodPoints("리뷰 요약을 잠시 제공할 수 없습니다. 잠시 후 다시 시도해 주세요.")
+                .badPoints("")
+                .overall("")
+                .positiveRatio(0.0)
+                .negativeRatio(0.0)
+                .neutralRatio(0.0)
+                .build();
+    }
+
     private String buildReviewTextBlock(List<MovieReviewDto> reviews) {
         StringBuilder sb = new StringBuilder();
         int index = 1;
@@ -127,48 +139,4 @@ public class ReviewAiSummaryService {
             }
             """;
     }
-
-
-    private String callLlm(String prompt) {
-        long start = System.currentTimeMillis();
-        try {
-            Map<String, Object> body = new HashMap<>();
-
-            body.put("model", "gpt-4o-mini");
-            body.put("response_format", Map.of("type", "json_object"));
-
-            List<Map<String, String>> messages = List.of(
-                    Map.of("role", "system",
-                            "content", "너는 영화 리뷰를 한국어로 요약하고 감정을 분석하는 어시스턴트다. 반드시 유효한 JSON만 출력한다."),
-                    Map.of("role", "user", "content", prompt)
-            );
-            body.put("messages", messages);
-
-            JsonNode response = openAiClient.post()
-                    .uri("/chat/completions")
-                    .header("Authorization", "Bearer " + openAiApiKey)
-                    .header("Content-Type", "application/json")
-                    .body(body)
-                    .retrieve()
-                    .body(JsonNode.class);
-
-            long end = System.currentTimeMillis();
-            log.info("LLM 호출 성공. 소요 시간 = {} ms, 프롬프트 길이 = {} chars",
-                    (end - start), prompt.length());
-
-            String content = response
-                    .get("choices").get(0)
-                    .get("message").get("content")
-                    .asText();
-
-            return content;
-
-        } catch (Exception e) {
-            long end = System.currentTimeMillis();
-            log.error("LLM 호출 실패. 소요 시간 = {} ms, 에러 = {}",
-                    (end - start), e.getMessage());
-            throw new RuntimeException("LLM 호출 실패: " + e.getMessage(), e);
-        }
-    }
-
 }
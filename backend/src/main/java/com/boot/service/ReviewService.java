@@ -23,6 +23,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final RatingRepository ratingRepository; // RatingRepository 주입
     private final UserService userService; // User 정보를 가져오기 위해 주입
+    private final CurrentUserService currentUserService;
 
     // UserService getter (ReviewController에서 사용)
     public UserService getUserService() {
@@ -36,7 +37,7 @@ public class ReviewService {
             throw new IllegalStateException("로그인된 사용자 정보를 찾을 수 없습니다.");
         }
         String userEmail = authentication.getName();
-        return userService.findByEmail(userEmail) // UserService에 findByEmail 메서드가 있다고 가정
+        return currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + userEmail));
     }
 
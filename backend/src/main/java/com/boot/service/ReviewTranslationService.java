@@ -2,30 +2,50 @@ package com.boot.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lombok.extern.slf4j.XSlf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewTranslationService {
 
+    private static final String SYSTEM_PROMPT = "너는 뛰어난 번역가이다. 한국어로 자연스럽게 번역한다.";
+
+    private static final String BATCH_SYSTEM_PROMPT =
+            "너는 뛰어난 번역가이다. 여러 리뷰를 한국어로 자연스럽게 번역하고, 반드시 유효한 JSON만 출력한다.";
+
+    // 항목별 JSON 구조(id, 키 이름 등) 오버헤드 토큰
+    private static final int ITEM_OVERHEAD_TOKENS = 10;
+
+    private final LlmGateway llmGateway;
     private final ObjectMapper objectMapper;
 
-    @Value("${openai.api-key}")
-    private String openAiApiKey;
+    // 일괄 번역 마감 시간 = 기본 시간 + 예상 출력 토큰 / 생성 속도 (한국어 출력은 영어 입력보다 토큰이 많음)
+    @Value("${review-translation.batch.base-deadline-ms:5000}")
+    private long batchBaseDeadlineMs;
 
-    private final RestClient openAiClient = RestClient.builder()
-            .baseUrl("https://api.openai.com/v1")
-            .build();
+    @Value("${review-translation.batch.output-token-ratio:1.5}")
+    private double outputTokenRatio;
+
+    @Value("${review-translation.batch.output-tokens-per-second:40}")
+    private double outputTokensPerSecond;
+
+    /**
+     * 대략적인 입력 토큰 수 추정 (영문 기준 약 3~4자당 1토큰, 보수적으로 3자)
+     */
+    public static int estimateTokens(String text) {
+        return (text != null ? text.length() / 3 : 0) + ITEM_OVERHEAD_TOKENS;
+    }
 
     public String translateToKorean(String text) {
         if (text == null || text.isBlank()) return null;
@@ -37,31 +57,67 @@ public class ReviewTranslationService {
                 """ + text;
 
         try {
-            Map<String, Object> body = new HashMap<>();
-            body.put("model", "gpt-4o-mini");
-
-            List<Map<String, String>> messages = List.of(
-                    Map.of("role", "system", "content", "너는 뛰어난 번역가이다. 한국어로 자연스럽게 번역한다."),
-                    Map.of("role", "user", "content", prompt)
-            );
-            body.put("messages", messages);
-
-            JsonNode response = openAiClient.post()
-                    .uri("/chat/completions")
-                    .header("Authorization", "Bearer " + openAiApiKey)
-                    .header("Content-Type", "application/json")
-                    .body(body)
-                    .retrieve()
-                    .body(JsonNode.class);
-
-            String result = response.get("choices").get(0).get("message").get("content").asText();
+            String result = llmGateway.complete("review.translation", SYSTEM_PROMPT, prompt, false);
             log.info("번역 성공, 길이={} chars", result.length());
             return result;
 
-        } catch (Exception e) {
-            log.error("번역 호출 실패: {}", e.getMessage(), e);
+        } catch (LlmGateway.LlmUnavailableException e) {
+            // 번역 실패 시 null → 다음 번역 배치에서 재시도
+            log.warn("번역 호출 실패: {}", e.getMessage());
             return null;
         }
     }
-}
 
+    /**
+     * 여러 리뷰를 한 번의 LLM 호출(JSON 모드)로 번역
+     * - 결과는 입력과 같은 순서/크기, 번역을 받지 못한 항목은 null (다음 배치에서 재시도)
+     */
+    public List<String> translateBatchToKorean(List<String> texts) {
+        List<String> results = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        if (texts.isEmpty()) {
+            return results;
+        }
+
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < texts.size(); i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("text", texts.get(i));
+        }
+
+        String prompt = """
+                아래 JSON 의 items 에 있는 영화 리뷰를 각각 자연스러운 한국어로 번역해라.
+                설명 없이 번역문만, 입력과 같은 id 로 다음 JSON 형식으로만 출력하라.
+                { "translations": [ { "id": 0, "text": "번역문" }, ... ] }
+
+                """ + objectMapper.createObjectNode().set("items", items).toString();
+
+        int inputTokens = texts.stream().mapToInt(ReviewTranslationService::estimateTokens).sum();
+        Duration deadline = Duration.ofMillis(batchBaseDeadlineMs
+                + (long) (inputTokens * outputTokenRatio / outputTokensPerSecond * 1000));
+
+        try {
+            String content = llmGateway.complete("review.translation.batch", BATCH_SYSTEM_PROMPT, prompt, true, deadline);
+            JsonNode translations = objectMapper.readTree(content).get("translations");
+            if (translations == null || !translations.isArray()) {
+                log.warn("일괄 번역 JSON 형식 이상: {}", content);
+                return results;
+            }
+            for (JsonNode node : translations) {
+                int id = node.path("id").asInt(-1);
+                String text = node.path("text").asText(null);
+                if (id >= 0 && id < results.size() && text != null && !text.isBlank()) {
+                    results.set(id, text);
+                }
+            }
+            return results;
+
+        } catch (LlmGateway.LlmUnavailableException e) {
+            log.warn("일괄 번역 호출 실패 ({}건): {}", texts.size(), e.getMessage());
+            return results;
+        } catch (Exception e) {
+            log.error("일괄 번역 JSON 파싱 실패: {}", e.getMessage(), e);
+            return results;
+        }
+    }
+}
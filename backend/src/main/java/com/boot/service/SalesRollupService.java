@@ -0,0 +1,299 @@
+package com.boot.service;
+
+import com.boot.dto.ScreenDto;
+import com.boot.dto.SalesStatDto;
+import com.boot.dto.TheaterDto;
+import com.boot.event.BookingSalesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매/점유율 롤업 관리
+ * - 예매 생성/취소 이벤트는 예매 트랜잭션 안에서 증분 로그(sales_rollup_delta)에 한 행 추가만 함
+ *   (INSERT 만 하므로 같은 일자/영화/영화관 예매끼리 롤업 행 락을 잡고 기다리지 않음)
+ * - 증분 로그는 주기적으로 짧은 트랜잭션에서 시간표별/일자별로 합산해 롤업에 반영 후 삭제 (반영 지연 최대 수 초)
+ * - 좌석 수(capacity)/회차 수는 시간표가 롤업에 처음 잡힐 때 증분 반영, 시간표 생성 이후 하루 한 번 보정
+ * - 롤업 쓰기(증분 반영/보정/재구성)는 sales_rollup_lock 행 락으로 노드 간 하나씩만 실행
+ * - 관리자 통계 조회는 롤업만 읽음 (booking/showtime 전체 스캔 없음)
+ * - 상영일은 DB 저장 시각(KST -9h)에 9시간을 더한 한국 날짜 기준
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private static final int KST_OFFSET_HOURS = 9;
+
+    private static final String INSERT_DELTA_SQL =
+            "INSERT INTO sales_rollup_delta (showtime_id, show_date, movie_id, theater_id, total_seats, seat_delta, revenue_delta, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private static final String SELECT_DELTAS_SQL =
+            "SELECT id, showtime_id, show_date, movie_id, theater_id, total_seats, seat_delta, revenue_delta " +
+            "FROM sales_rollup_delta ORDER BY id LIMIT ?";
+
+    // 커밋 전인 증분 행이 범위 삭제에 휩쓸리지 않도록 읽은 id 만 삭제
+    private static final String DELETE_DELTA_SQL = "DELETE FROM sales_rollup_delta WHERE id = ?";
+
+    // 롤업 쓰기 직렬화 (커밋/롤백 시 해제). 반영 주기는 잠겨 있으면 건너뛰고, 보정/재구성은 대기
+    private static final String TRY_LOCK_SQL = "SELECT id FROM sales_rollup_lock WHERE id = 1 FOR UPDATE SKIP LOCKED";
+    private static final String LOCK_SQL = "SELECT id FROM sales_rollup_lock WHERE id = 1 FOR UPDATE";
+
+    // 시간표 롤업 행이 없으면 판매 0 으로 생성 (생성됐으면 1 → 일자별 좌석 수/회차 수에 반영)
+    private static final String INSERT_SHOWTIME_SQL =
+            "INSERT IGNORE INTO showtime_sales_rollup (showtime_id, show_date, movie_id, theater_id, total_seats, seats_sold, revenue, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, 0, NOW())";
+
+    private static final String ADD_SHOWTIME_SALES_SQL =
+            "UPDATE showtime_sales_rollup SET seats_sold = seats_sold + ?, revenue = revenue + ?, updated_at = NOW() " +
+            "WHERE showtime_id = ?";
+
+    private static final String UPSERT_DAILY_SQL =
+            "INSERT INTO daily_sales_rollup (show_date, movie_id, theater_id, seats_sold, revenue, capacity, showtime_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE seats_sold = seats_sold + VALUES(seats_sold), " +
+            "revenue = revenue + VALUES(revenue), capacity = capacity + VALUES(capacity), " +
+            "showtime_count = showtime_count + VALUES(showtime_count), updated_at = NOW()";
+
+    // 판매 없는 시간표도 좌석 수에 포함되도록 시간표 롤업 행을 미리 생성
+    private static final String SEED_SHOWTIME_SQL =
+            "INSERT IGNORE INTO showtime_sales_rollup (showtime_id, show_date, movie_id, theater_id, total_seats, seats_sold, revenue, updated_at) " +
+            "SELECT s.id, DATE(DATE_ADD(s.start_time, INTERVAL " + KST_OFFSET_HOURS + " HOUR)), s.movie_id, sc.theater_id, sc.total_seats, 0, 0, NOW() " +
+            "FROM showtime s JOIN screen sc ON sc.id = s.screen_id " +
+            "WHERE s.start_time >= ?";
+
+    // 좌석 수/회차 수만 보정 (판매 좌석·매출은 증분 값을 유지)
+    private static final String REFRESH_CAPACITY_SQL =
+            "INSERT INTO daily_sales_rollup (show_date, movie_id, theater_id, seats_sold, revenue, capacity, showtime_count, updated_at) " +
+            "SELECT show_date, movie_id, theater_id, SUM(seats_sold), SUM(revenue), SUM(total_seats), COUNT(*), NOW() " +
+            "FROM showtime_sales_rollup WHERE show_date >= ? " +
+            "GROUP BY show_date, movie_id, theater_id " +
+            "ON DUPLICATE KEY UPDATE capacity = VALUES(capacity), showtime_count = VALUES(showtime_count), updated_at = NOW()";
+
+    // 전체 재구성용 집계 (운영 + 보관 테이블). 잠금 없는 일반 SELECT 라 증분 로그 조회와 같은 스냅샷을 읽음
+    private static final String REBUILD_SELECT_SQL =
+            "SELECT s.id, DATE(DATE_ADD(s.start_time, INTERVAL " + KST_OFFSET_HOURS + " HOUR)) AS show_date, s.movie_id, sc.theater_id, sc.total_seats, " +
+            "COALESCE(SUM(CASE WHEN b.booking_status = 'CONFIRMED' THEN b.seat_count END), 0) AS seats_sold, " +
+            "COALESCE(SUM(CASE WHEN b.booking_status = 'CONFIRMED' THEN b.total_price END), 0) AS revenue " +
+            "FROM (SELECT id, movie_id, screen_id, start_time FROM showtime " +
+            "      UNION ALL SELECT id, movie_id, screen_id, start_time FROM showtime_archive) s " +
+            "JOIN screen sc ON sc.id = s.screen_id " +
+            "LEFT JOIN (SELECT showtime_id, seat_count, total_price, booking_status FROM booking " +
+            "           UNION ALL SELECT showtime_id, seat_count, total_price, booking_status FROM booking_archive) b " +
+            "       ON b.showtime_id = s.id " +
+            "GROUP BY s.id, s.start_time, s.movie_id, sc.theater_id, sc.total_seats";
+
+    private static final String REBUILD_SHOWTIME_SQL =
+            "INSERT INTO showtime_sales_rollup (showtime_id, show_date, movie_id, theater_id, total_seats, seats_sold, revenue, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private static final String REBUILD_DAILY_SQL =
+            "INSERT INTO daily_sales_rollup (show_date, movie_id, theater_id, seats_sold, revenue, capacity, showtime_count, updated_at) " +
+            "SELECT show_date, movie_id, theater_id, SUM(seats_sold), SUM(revenue), SUM(total_seats), COUNT(*), NOW() " +
+            "FROM showtime_sales_rollup GROUP BY show_date, movie_id, theater_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TheaterRegistry theaterRegistry;
+
+    @Value("${sales-rollup.flush-batch-size:5000}")
+    private int flushBatchSize;
+
+    /**
+     * 예매 생성/취소를 증분 로그에 기록 (예매 트랜잭션 커밋 직전, 같은 트랜잭션)
+     * - 예매와 함께 커밋/롤백되므로 롤업 반영이 늦어질 뿐 누락/중복되지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSalesChanged(BookingSalesChangedEvent event) {
+        ScreenDto screen = theaterRegistry.getScreen(event.screenId());
+        if (screen == null) {
+            log.warn("판매 롤업 갱신 생략: 레지스트리에 없는 상영관 {}", event.screenId());
+            return;
+        }
+        jdbcTemplate.update(INSERT_DELTA_SQL, event.showtimeId(), Date.valueOf(toShowDate(event.startTime())),
+                event.movieId(), screen.getTheaterId(), screen.getTotalSeats(),
+                event.seatDelta(), event.revenueDelta());
+    }
+
+    /**
+     * 2초마다 증분 로그를 롤업에 반영 (다른 노드가 반영/재구성 중이면 이번 주기는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${sales-rollup.flush-interval-ms:2000}")
+    @Transactional
+    public void flush() {
+        if (jdbcTemplate.queryForList(TRY_LOCK_SQL, Long.class).isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        Map<Long, PendingShowtime> showtimes = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_DELTAS_SQL, rs -> {
+            ids.add(rs.getLong("id"));
+            DailyKey key = new DailyKey(rs.getDate("show_date"), rs.getString("movie_id"), rs.getLong("theater_id"));
+            int totalSeats = rs.getInt("total_seats");
+            PendingShowtime pending = showtimes.computeIfAbsent(rs.getLong("showtime_id"), id -> new PendingShowtime(key, totalSeats));
+            pending.seats += rs.getLong("seat_delta");
+            pending.revenue += rs.getLong("revenue_delta");
+        }, flushBatchSize);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // 시간표별 반영 후 일자별로 한 번 더 합산 (일자별 행은 주기당 한 번씩만 갱신)
+        Map<DailyKey, long[]> daily = new LinkedHashMap<>();
+        showtimes.forEach((showtimeId, pending) -> {
+            DailyKey key = pending.key;
+            boolean newShowtime = jdbcTemplate.update(INSERT_SHOWTIME_SQL, showtimeId, key.showDate(), key.movieId(),
+                    key.theaterId(), pending.totalSeats) > 0;
+            jdbcTemplate.update(ADD_SHOWTIME_SALES_SQL, pending.seats, pending.revenue, showtimeId);
+            long[] sums = daily.computeIfAbsent(key, k -> new long[4]);
+            sums[0] += pending.seats;
+            sums[1] += pending.revenue;
+            // 처음 롤업에 잡힌 시간표면 그 상영관 좌석 수/회차 1건을 일자별 합계에 더함
+            if (newShowtime) {
+                sums[2] += pending.totalSeats;
+                sums[3] += 1;
+            }
+        });
+        List<Object[]> dailyArgs = new ArrayList<>(daily.size());
+        daily.forEach((key, sums) -> dailyArgs.add(new Object[]{key.showDate(), key.movieId(), key.theaterId(),
+                sums[0], sums[1], sums[2], sums[3]}));
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, dailyArgs);
+        jdbcTemplate.batchUpdate(DELETE_DELTA_SQL, ids.stream().map(id -> new Object[]{id}).toList());
+        log.debug("판매 롤업 증분 반영: 로그 {}건, 시간표 {}건", ids.size(), showtimes.size());
+    }
+
+    /**
+     * 매일 새벽 3시 30분(시간표 생성 이후), 새 시간표의 좌석 수/회차 수 보정
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void refreshCapacity() {
+        jdbcTemplate.queryForList(LOCK_SQL, Long.class);
+        LocalDate today = LocalDate.now();
+        int seeded = jdbcTemplate.update(SEED_SHOWTIME_SQL, Timestamp.valueOf(today.atStartOfDay().minusHours(KST_OFFSET_HOURS)));
+        jdbcTemplate.update(REFRESH_CAPACITY_SQL, Date.valueOf(today));
+        log.info("판매 롤업 좌석 수 보정: 신규 시간표 {}건", seeded);
+    }
+
+    /**
+     * 롤업 전체 재구성 (최초 도입 시 / 데이터 보정용)
+     * - 락을 잡은 뒤 증분 로그 id 와 예매 집계를 같은 스냅샷(REPEATABLE READ)에서 읽음
+     * - 스냅샷에 보이는 증분은 집계에 이미 포함되므로 삭제, 이후 커밋된 예매의 증분만 남아 재구성 후 반영
+     * - 재구성 중에도 예매는 막지 않음 (증분 반영 주기만 건너뜀)
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void rebuild() {
+        jdbcTemplate.queryForList(LOCK_SQL, Long.class);
+        List<Long> coveredDeltaIds = jdbcTemplate.queryForList("SELECT id FROM sales_rollup_delta", Long.class);
+        List<Object[]> rows = jdbcTemplate.query(REBUILD_SELECT_SQL, (rs, i) -> new Object[]{
+                rs.getLong("id"), rs.getDate("show_date"), rs.getString("movie_id"), rs.getLong("theater_id"),
+                rs.getInt("total_seats"), rs.getLong("seats_sold"), rs.getLong("revenue")});
+
+        jdbcTemplate.update("DELETE FROM daily_sales_rollup");
+        jdbcTemplate.update("DELETE FROM showtime_sales_rollup");
+        jdbcTemplate.batchUpdate(REBUILD_SHOWTIME_SQL, rows);
+        jdbcTemplate.update(REBUILD_DAILY_SQL);
+        jdbcTemplate.batchUpdate(DELETE_DELTA_SQL, coveredDeltaIds.stream().map(id -> new Object[]{id}).toList());
+        log.info("판매 롤업 재구성 완료: 시간표 {}건, 집계에 포함된 증분 로그 {}건", rows.size(), coveredDeltaIds.size());
+    }
+
+    /**
+     * 일자별 판매/점유율
+     */
+    public List<SalesStatDto> getDailyStats(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT show_date AS k, SUM(seats_sold) AS sold, SUM(revenue) AS revenue, SUM(capacity) AS capacity " +
+                "FROM daily_sales_rollup WHERE show_date BETWEEN ? AND ? GROUP BY show_date ORDER BY show_date",
+                (rs, i) -> toStat(rs.getString("k"), rs.getString("k"),
+                        rs.getLong("sold"), rs.getLong("revenue"), rs.getLong("capacity")),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 영화별 판매/점유율 (매출 순)
+     */
+    public List<SalesStatDto> getMovieStats(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT movie_id AS k, SUM(seats_sold) AS sold, SUM(revenue) AS revenue, SUM(capacity) AS capacity " +
+                "FROM daily_sales_rollup WHERE show_date BETWEEN ? AND ? GROUP BY movie_id ORDER BY revenue DESC",
+                (rs, i) -> toStat(rs.getString("k"), rs.getString("k"),
+                        rs.getLong("sold"), rs.getLong("revenue"), rs.getLong("capacity")),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 영화관별 판매/점유율 (매출 순)
+     */
+    public List<SalesStatDto> getTheaterStats(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT theater_id AS k, SUM(seats_sold) AS sold, SUM(revenue) AS revenue, SUM(capacity) AS capacity " +
+                "FROM daily_sales_rollup WHERE show_date BETWEEN ? AND ? GROUP BY theater_id ORDER BY revenue DESC",
+                (rs, i) -> {
+                    long theaterId = rs.getLong("k");
+                    TheaterDto theater = theaterRegistry.getTheater(theaterId);
+                    return toStat(String.valueOf(theaterId), theater != null ? theater.getName() : null,
+                            rs.getLong("sold"), rs.getLong("revenue"), rs.getLong("capacity"));
+                },
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 특정 일자의 시간표별 판매/점유율 (영화 필터 선택)
+     */
+    public List<SalesStatDto> getShowtimeStats(LocalDate date, String movieId) {
+        String sql = "SELECT showtime_id AS k, movie_id, seats_sold, revenue, total_seats " +
+                "FROM showtime_sales_rollup WHERE show_date = ?" +
+                (movieId != null ? " AND movie_id = ?" : "") + " ORDER BY showtime_id";
+        Object[] args = movieId != null ? new Object[]{Date.valueOf(date), movieId} : new Object[]{Date.valueOf(date)};
+        return jdbcTemplate.query(sql,
+                (rs, i) -> toStat(rs.getString("k"), rs.getString("movie_id"),
+                        rs.getLong("seats_sold"), rs.getLong("revenue"), rs.getLong("total_seats")),
+                args);
+    }
+
+    private static LocalDate toShowDate(LocalDateTime startTime) {
+        return startTime.plusHours(KST_OFFSET_HOURS).toLocalDate();
+    }
+
+    private static SalesStatDto toStat(String key, String label, long sold, long revenue, long capacity) {
+        return SalesStatDto.builder()
+                .key(key)
+                .label(label)
+                .seatsSold(sold)
+                .revenue(revenue)
+                .capacity(capacity)
+                .occupancyRate(capacity > 0 ? (double) sold / capacity : 0.0)
+                .build();
+    }
+
+    private record DailyKey(Date showDate, String movieId, long theaterId) {
+    }
+
+    private static final class PendingShowtime {
+        private final DailyKey key;
+        private final int totalSeats;
+        private long seats;
+        private long revenue;
+
+        private PendingShowtime(DailyKey key, int totalSeats) {
+            this.key = key;
+            this.totalSeats = totalSeats;
+        }
+    }
+}
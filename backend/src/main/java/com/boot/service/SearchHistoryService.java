@@ -20,7 +20,7 @@ import java.util.stream.Collectors;
 public class SearchHistoryService {
 
     private final SearchHistoryRepository searchHistoryRepository;
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
     private static final int MAX_HISTORY_ITEMS = 10; // 최대 검색 기록 개수
 
     // 현재 로그인한 사용자 정보 가져오기
@@ -30,7 +30,7 @@ public class SearchHistoryService {
             throw new IllegalStateException("로그인된 사용자 정보를 찾을 수 없습니다.");
         }
         String userEmail = authentication.getName();
-        return userService.findByEmail(userEmail)
+        return currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + userEmail));
     }
 
@@ -0,0 +1,125 @@
+package com.boot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 시간표/예매 보관 처리 (hot → cold)
+ * - 상영 종료 후 보관 기간이 지난 시간표와 그 예매를 showtime_archive / booking_archive 로 이동
+ * - id 기준 청크 단위로 (복사 → 삭제) 를 한 트랜잭션에서 처리해 잠금 범위를 제한
+ * - 운영 테이블(showtime, booking)은 현재/미래 데이터만 남아 인덱스가 메모리에 머묾
+ */
+@Slf4j
+@Service
+public class ShowtimeArchiveService {
+
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT id FROM showtime WHERE end_time < :cutoff ORDER BY id LIMIT :limit";
+
+    private static final String COPY_SHOWTIMES_SQL =
+            "INSERT IGNORE INTO showtime_archive (id, movie_id, screen_id, start_time, end_time, price, " +
+            "available_seats, region, city, created_at, archived_at) " +
+            "SELECT id, movie_id, screen_id, start_time, end_time, price, available_seats, region, city, created_at, :archivedAt " +
+            "FROM showtime WHERE id IN (:ids)";
+
+    private static final String COPY_BOOKINGS_SQL =
+            "INSERT IGNORE INTO booking_archive (id, user_id, showtime_id, seats, seat_count, total_price, " +
+            "booking_status, created_at, updated_at, archived_at) " +
+            "SELECT id, user_id, showtime_id, seats, seat_count, total_price, booking_status, created_at, updated_at, :archivedAt " +
+            "FROM booking WHERE showtime_id IN (:ids)";
+
+    private static final String DELETE_BOOKINGS_SQL = "DELETE FROM booking WHERE showtime_id IN (:ids)";
+    private static final String DELETE_TIMETABLE_SQL = "DELETE FROM showtime_timetable WHERE showtime_id IN (:ids)";
+    private static final String DELETE_SHOWTIMES_SQL = "DELETE FROM showtime WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedShowtimeCounter;
+    private final Counter archivedBookingCounter;
+
+    @Value("${archive.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${archive.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    public ShowtimeArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archivedShowtimeCounter = meterRegistry.counter("archive.rows", "table", "showtime");
+        this.archivedBookingCounter = meterRegistry.counter("archive.rows", "table", "booking");
+    }
+
+    /**
+     * 매일 새벽 5시, 보관 기간이 지난 시간표/예매 이동
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void archiveScheduled() {
+        archivePastShowtimes();
+    }
+
+    /**
+     * 상영 종료 후 retentionDays 가 지난 시간표를 청크 단위로 보관 테이블로 이동
+     * @return 이동한 시간표 수
+     */
+    public synchronized int archivePastShowtimes() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int showtimes = 0;
+        int bookings = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL,
+                    new MapSqlParameterSource()
+                            .addValue("cutoff", Timestamp.valueOf(cutoff))
+                            .addValue("limit", chunkSize),
+                    Long.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int[] moved = transactionTemplate.execute(status -> archiveChunk(ids));
+            showtimes += moved[0];
+            bookings += moved[1];
+        }
+
+        archivedShowtimeCounter.increment(showtimes);
+        archivedBookingCounter.increment(bookings);
+        if (showtimes > 0) {
+            log.info("지난 시간표 보관 처리: 기준 {} 이전 종료, 시간표 {}건 / 예매 {}건 이동", cutoff, showtimes, bookings);
+        }
+        return showtimes;
+    }
+
+    /**
+     * 청크 하나 이동 (복사 후 삭제, 한 트랜잭션)
+     * @return [이동한 시간표 수, 이동한 예매 수]
+     */
+    private int[] archiveChunk(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+
+        jdbcTemplate.update(COPY_SHOWTIMES_SQL, params);
+        jdbcTemplate.update(COPY_BOOKINGS_SQL, params);
+        int bookings = jdbcTemplate.update(DELETE_BOOKINGS_SQL, params);
+        jdbcTemplate.update(DELETE_TIMETABLE_SQL, params);
+        int showtimes = jdbcTemplate.update(DELETE_SHOWTIMES_SQL, params);
+        return new int[]{showtimes, bookings};
+    }
+}
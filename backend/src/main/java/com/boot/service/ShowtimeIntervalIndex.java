@@ -0,0 +1,158 @@
+package com.boot.service;
+
+import com.boot.dto.ShowtimeSlotDto;
+import com.boot.entity.ShowtimeTimetable;
+import com.boot.event.ShowtimeSeatsChangedEvent;
+import com.boot.event.ShowtimesSyncedEvent;
+import com.boot.repository.ShowtimeTimetableRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 영화별 시작 시간 순 정렬 시간표 인덱스 (메모리)
+ * - "곧 시작하는 상영" 조회를 DB/ES 없이 범위 탐색으로 처리
+ * - 시간표 동기화 이벤트로 신규/변경 시간표 반영, 예매 이벤트로 잔여 좌석 반영
+ * - 1분마다 시작 시간이 지난 시간표 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowtimeIntervalIndex {
+
+    private final ShowtimeTimetableRepository timetableRepository;
+
+    private volatile Index index = new Index();
+
+    private record SlotKey(LocalDateTime startTime, long showtimeId) implements Comparable<SlotKey> {
+        @Override
+        public int compareTo(SlotKey other) {
+            int result = startTime.compareTo(other.startTime);
+            return result != 0 ? result : Long.compare(showtimeId, other.showtimeId);
+        }
+    }
+
+    private static class Index {
+        final Map<String, ConcurrentSkipListMap<SlotKey, ShowtimeSlotDto>> byMovie = new ConcurrentHashMap<>();
+        final Map<Long, ShowtimeSlotDto> byShowtimeId = new ConcurrentHashMap<>();
+
+        void put(ShowtimeSlotDto slot) {
+            remove(slot.getShowtimeId());
+            byMovie.computeIfAbsent(slot.getMovieId(), k -> new ConcurrentSkipListMap<>())
+                    .put(keyOf(slot), slot);
+            byShowtimeId.put(slot.getShowtimeId(), slot);
+        }
+
+        void remove(Long showtimeId) {
+            ShowtimeSlotDto previous = byShowtimeId.remove(showtimeId);
+            if (previous != null) {
+                var slots = byMovie.get(previous.getMovieId());
+                if (slots != null) {
+                    slots.remove(keyOf(previous));
+                }
+            }
+        }
+    }
+
+    /**
+     * 영화의 [from, to] 구간에 시작하는 시간표 조회 (지역/체인/상영관 타입 필터는 선택)
+     */
+    public List<ShowtimeSlotDto> findStartingBetween(String movieId, LocalDateTime from, LocalDateTime to,
+                                                     String region, String chain, String screenType,
+                                                     boolean includeSoldOut, int limit) {
+        var slots = index.byMovie.get(movieId);
+        if (slots == null || from.isAfter(to)) {
+            return List.of();
+        }
+
+        List<ShowtimeSlotDto> result = new ArrayList<>();
+        for (ShowtimeSlotDto slot : slots.subMap(new SlotKey(from, Long.MIN_VALUE), true,
+                new SlotKey(to, Long.MAX_VALUE), true).values()) {
+            if (region != null && !region.equals(slot.getTheaterRegion())) continue;
+            if (chain != null && !chain.equals(slot.getTheaterChain())) continue;
+            if (screenType != null && !screenType.equals(slot.getScreenType())) continue;
+            if (!includeSoldOut && slot.getAvailableSeats() <= 0) continue;
+
+            result.add(slot);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 시간표 읽기 모델 동기화 반영 (전체 재구성이면 인덱스 교체, 아니면 변경분만 반영)
+     */
+    @EventListener
+    public synchronized void onShowtimesSynced(ShowtimesSyncedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        if (event.fullRebuild()) {
+            Index next = new Index();
+            timetableRepository.findByStartTimeGreaterThanEqual(now).stream()
+                    .map(ShowtimeSlotDto::fromTimetable)
+                    .forEach(next::put);
+            index = next;
+            log.info("시간표 구간 인덱스 재적재: {}건", next.byShowtimeId.size());
+            return;
+        }
+
+        List<ShowtimeTimetable> changed =
+                timetableRepository.findBySyncedAtGreaterThanEqualAndStartTimeGreaterThanEqual(event.syncedAt(), now);
+        Index current = index;
+        changed.stream()
+                .map(ShowtimeSlotDto::fromTimetable)
+                .forEach(current::put);
+    }
+
+    /**
+     * 예매/취소 커밋 후 잔여 좌석 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSeatsChanged(ShowtimeSeatsChangedEvent event) {
+        Index current = index;
+        ShowtimeSlotDto slot = current.byShowtimeId.get(event.showtimeId());
+        if (slot != null) {
+            current.put(slot.toBuilder().availableSeats(event.availableSeats()).build());
+        }
+    }
+
+    /**
+     * 1분마다 시작 시간이 지난 시간표 제거
+     */
+    @Scheduled(fixedDelay = 60000)
+    public synchronized void evictStarted() {
+        LocalDateTime now = LocalDateTime.now();
+        Index current = index;
+        int evicted = 0;
+        for (var entry : current.byMovie.entrySet()) {
+            var slots = entry.getValue();
+            Map.Entry<SlotKey, ShowtimeSlotDto> first;
+            while ((first = slots.firstEntry()) != null && first.getKey().startTime().isBefore(now)) {
+                slots.remove(first.getKey());
+                current.byShowtimeId.remove(first.getValue().getShowtimeId());
+                evicted++;
+            }
+            if (slots.isEmpty()) {
+                current.byMovie.remove(entry.getKey(), slots);
+            }
+        }
+        if (evicted > 0) {
+            log.debug("시간표 구간 인덱스 만료 제거: {}건", evicted);
+        }
+    }
+
+    private static SlotKey keyOf(ShowtimeSlotDto slot) {
+        return new SlotKey(slot.getStartTime(), slot.getShowtimeId());
+    }
+}
@@ -2,10 +2,16 @@ package com.boot.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import com.boot.dto.NearbyTheaterDto;
+import com.boot.dto.ScreenDto;
 import com.boot.dto.ShowtimeResponseDto;
+import com.boot.dto.ShowtimeSlotDto;
+import com.boot.dto.TheaterDto;
 import com.boot.elastic.Movie;
 import com.boot.entity.Showtime;
+import com.boot.entity.ShowtimeTimetable;
 import com.boot.repository.ShowtimeRepository;
+import com.boot.repository.ShowtimeTimetableRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,26 +27,27 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ShowtimeService {
 
+    // 시간 범위 조회(주변/곧 시작) 공통 상한
+    private static final int MAX_HOURS = 72;
+    private static final int MAX_LIMIT = 50;
+
     private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeTimetableRepository timetableRepository;
     private final ElasticsearchClient elasticsearchClient;
+    private final TheaterGeoIndex theaterGeoIndex;
+    private final TheaterRegistry theaterRegistry;
+    private final ShowtimeIntervalIndex showtimeIntervalIndex;
 
     /**
-     * 영화별 시간표 조회 (Elasticsearch 영화 정보 결합)
+     * 영화별 시간표 조회 (시간표 읽기 모델, 영화 정보 포함)
      */
     public List<ShowtimeResponseDto> getShowtimesByMovie(String movieId) {
-        List<Showtime> showtimes = showtimeRepository.findByMovieIdAndStartTimeBetween(
+        List<ShowtimeTimetable> rows = timetableRepository.findByMovieIdAndStartTimeBetweenOrderByStartTime(
                 movieId,
                 LocalDateTime.now(),
                 LocalDateTime.now().plusDays(7)
         );
-
-        return showtimes.stream()
-                .map(showtime -> {
-                    ShowtimeResponseDto dto = ShowtimeResponseDto.fromEntity(showtime);
-                    enrichWithMovieData(dto);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtos(rows);
     }
 
     /**
@@ -50,15 +57,7 @@ public class ShowtimeService {
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
 
-        List<Showtime> showtimes = showtimeRepository.findByTheaterIdAndDateRange(theaterId, startOfDay, endOfDay);
-
-        return showtimes.stream()
-                .map(showtime -> {
-                    ShowtimeResponseDto dto = ShowtimeResponseDto.fromEntity(showtime);
-                    enrichWithMovieData(dto);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtos(timetableRepository.findByTheaterIdAndStartTimeBetweenOrderByStartTime(theaterId, startOfDay, endOfDay));
     }
 
     /**
@@ -70,65 +69,92 @@ public class ShowtimeService {
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
 
-        List<Showtime> showtimes = showtimeRepository.findByMovieIdAndTheaterIdAndDateRange(dbMovieId, theaterId, startOfDay, endOfDay);
-
-        return showtimes.stream()
-            .map(showtime -> {
-                ShowtimeResponseDto dto = ShowtimeResponseDto.fromEntity(showtime);
-                enrichWithMovieData(dto);
-                return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtos(timetableRepository.findByMovieIdAndTheaterIdAndStartTimeBetweenOrderByStartTime(
+                dbMovieId, theaterId, startOfDay, endOfDay));
     }
 
     /**
      * 영화별 + 지역별 시간표 조회
      */
     public List<ShowtimeResponseDto> getShowtimesByMovieAndRegion(String movieId, String region) {
-        List<Showtime> showtimes = showtimeRepository.findByMovieIdAndRegion(
-                movieId,
-                region,
-                LocalDateTime.now()
-        );
-
-        return showtimes.stream()
-                .map(showtime -> {
-                    ShowtimeResponseDto dto = ShowtimeResponseDto.fromEntity(showtime);
-                    enrichWithMovieData(dto);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtos(timetableRepository.findByMovieIdAndTheaterRegionAndStartTimeGreaterThanEqualOrderByStartTime(
+                movieId, region, LocalDateTime.now()));
     }
 
     /**
      * 영화별 + 체인별 시간표 조회
      */
     public List<ShowtimeResponseDto> getShowtimesByMovieAndChain(String movieId, String chain) {
-        List<Showtime> showtimes = showtimeRepository.findByMovieIdAndChain(
-                movieId,
-                chain,
-                LocalDateTime.now()
-        );
+        return toDtos(timetableRepository.findByMovieIdAndTheaterChainAndStartTimeGreaterThanEqualOrderByStartTime(
+                movieId, chain, LocalDateTime.now()));
+    }
 
-        return showtimes.stream()
-                .map(showtime -> {
-                    ShowtimeResponseDto dto = ShowtimeResponseDto.fromEntity(showtime);
-                    enrichWithMovieData(dto);
-                    return dto;
-                })
+    /**
+     * 내 주변 영화관에서 N시간 안에 시작하는 시간표 조회 (movieId 지정 시 해당 영화만)
+     */
+    public List<ShowtimeResponseDto> getShowtimesNearby(double lat, double lng, double radiusKm, int hours, String movieId) {
+        validateHours(hours);
+        List<Long> theaterIds = theaterGeoIndex.findNearby(lat, lng, radiusKm, Integer.MAX_VALUE).stream()
+                .map(NearbyTheaterDto::getId)
+                .toList();
+        if (theaterIds.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String dbMovieId = movieId == null ? null : (movieId.startsWith("tmdb_") ? movieId : "tmdb_" + movieId);
+        return timetableRepository.findByTheaterIdInAndStartTimeBetweenOrderByStartTime(theaterIds, now, now.plusHours(hours))
+                .stream()
+                .filter(row -> dbMovieId == null || dbMovieId.equals(row.getMovieId()))
+                .map(ShowtimeResponseDto::fromTimetable)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 시간표 상세 조회
+     * 영화의 곧 시작하는 시간표 조회 (메모리 구간 인덱스, 지역/체인/상영관 타입 필터)
+     */
+    public List<ShowtimeSlotDto> getStartingSoon(String movieId, int hours, String region, String chain,
+                                                 String screenType, boolean includeSoldOut, int limit) {
+        validateHours(hours);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        String dbMovieId = movieId.startsWith("tmdb_") ? movieId : "tmdb_" + movieId;
+        LocalDateTime now = LocalDateTime.now();
+        return showtimeIntervalIndex.findStartingBetween(dbMovieId, now, now.plusHours(hours),
+                region, chain, screenType, includeSoldOut, limit);
+    }
+
+    /**
+     * 시간표 상세 조회 (읽기 모델에 아직 없으면 원본 + ES 조회)
      */
     public ShowtimeResponseDto getShowtimeDetail(Long showtimeId) {
-        Showtime showtime = showtimeRepository.findById(showtimeId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시간표입니다."));
+        return timetableRepository.findById(showtimeId)
+                .map(ShowtimeResponseDto::fromTimetable)
+                .orElseGet(() -> {
+                    Showtime showtime = showtimeRepository.findById(showtimeId)
+                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시간표입니다."));
+
+                    ScreenDto screen = theaterRegistry.getScreen(showtime.getScreen().getId());
+                    TheaterDto theater = screen != null ? theaterRegistry.getTheater(screen.getTheaterId()) : null;
+                    ShowtimeResponseDto dto = theater != null
+                            ? ShowtimeResponseDto.fromEntity(showtime, screen, theater)
+                            : ShowtimeResponseDto.fromEntity(showtime);
+                    enrichWithMovieData(dto);
+                    return dto;
+                });
+    }
 
-        ShowtimeResponseDto dto = ShowtimeResponseDto.fromEntity(showtime);
-        enrichWithMovieData(dto);
-        return dto;
+    private static void validateHours(int hours) {
+        if (hours < 1 || hours > MAX_HOURS) {
+            throw new IllegalArgumentException("hours 는 1 ~ " + MAX_HOURS + " 사이여야 합니다.");
+        }
+    }
+
+    private List<ShowtimeResponseDto> toDtos(List<ShowtimeTimetable> rows) {
+        return rows.stream()
+                .map(ShowtimeResponseDto::fromTimetable)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -0,0 +1,246 @@
+package com.boot.service;
+
+import com.boot.dto.ScreenDto;
+import com.boot.dto.SlotGenerationResultDto;
+import com.boot.dto.TheaterDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간표 슬롯 생성기 (etl/generate_showtime_slots.py 의 슬롯/가격 정책을 그대로 옮김)
+ * - 상영관 단위로 병렬 생성, JDBC 배치 INSERT
+ * - (screen_id, start_time) 유니크 키 + INSERT IGNORE 로 재실행해도 중복 없음
+ * - 상영관/날짜별 난수 시드를 고정해 같은 날짜를 다시 생성해도 같은 슬롯이 나옴
+ * - 매일 새벽 마지막 날짜 하루분만 추가(롤링)
+ */
+@Slf4j
+@Service
+public class ShowtimeSlotGenerator {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO showtime (movie_id, screen_id, start_time, end_time, price, available_seats, region, city) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 시간대 슬롯 (조조/일반/심야)
+    private enum SlotType { MORNING, REGULAR, LATE_NIGHT }
+
+    private record TimeSlot(SlotType type, LocalTime start) {
+    }
+
+    private static final List<TimeSlot> TIME_SLOTS = List.of(
+            new TimeSlot(SlotType.MORNING, LocalTime.of(8, 0)),
+            new TimeSlot(SlotType.MORNING, LocalTime.of(9, 0)),
+            new TimeSlot(SlotType.REGULAR, LocalTime.of(11, 0)),
+            new TimeSlot(SlotType.REGULAR, LocalTime.of(13, 30)),
+            new TimeSlot(SlotType.REGULAR, LocalTime.of(16, 0)),
+            new TimeSlot(SlotType.REGULAR, LocalTime.of(18, 30)),
+            new TimeSlot(SlotType.REGULAR, LocalTime.of(20, 30)),
+            new TimeSlot(SlotType.REGULAR, LocalTime.of(22, 30)),
+            new TimeSlot(SlotType.LATE_NIGHT, LocalTime.of(23, 30))
+    );
+
+    // 주말 요금 적용 공휴일
+    private static final Set<LocalDate> HOLIDAYS = Set.of(
+            LocalDate.of(2025, 12, 25),
+            LocalDate.of(2026, 1, 1)
+    );
+
+    private static final int DURATION_MINUTES = 120;
+    // KST -> DB 저장 시각 보정 (ETL 스크립트와 동일하게 -9시간)
+    private static final int TIMEZONE_SHIFT_HOURS = 9;
+
+    private final TheaterRegistry theaterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter insertedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedScreenCounter;
+    private final Timer runTimer;
+
+    @Value("${showtime-generator.days:30}")
+    private int days;
+
+    @Value("${showtime-generator.threads:4}")
+    private int threads;
+
+    @Value("${showtime-generator.batch-size:500}")
+    private int batchSize;
+
+    @Value("${showtime-generator.movie-ids:tmdb_1379266,tmdb_1084242,tmdb_1228246,tmdb_1242898,tmdb_1555417,tmdb_701387}")
+    private String[] movieIds;
+
+    public ShowtimeSlotGenerator(TheaterRegistry theaterRegistry, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.theaterRegistry = theaterRegistry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertedCounter = meterRegistry.counter("showtime.generator.rows", "result", "inserted");
+        this.skippedCounter = meterRegistry.counter("showtime.generator.rows", "result", "skipped");
+        this.failedScreenCounter = meterRegistry.counter("showtime.generator.failed.screens");
+        this.runTimer = meterRegistry.timer("showtime.generator.run");
+    }
+
+    /**
+     * 매일 새벽 3시 10분, 생성 구간의 마지막 날짜(오늘 + days - 1) 하루분 추가
+     */
+    @Scheduled(cron = "0 10 3 * * *")
+    public void rollForward() {
+        LocalDate lastDay = LocalDate.now().plusDays(days - 1L);
+        SlotGenerationResultDto result = generate(lastDay, 1);
+        log.info("시간표 롤링 생성: {} 추가 {}건, 중복 {}건", lastDay, result.getInserted(), result.getSkipped());
+    }
+
+    /**
+     * 오늘부터 설정된 기간(days) 전체 생성 (이미 있는 슬롯은 건너뜀)
+     */
+    public SlotGenerationResultDto generateDefaultWindow() {
+        return generate(LocalDate.now(), days);
+    }
+
+    /**
+     * from 부터 dayCount 일 동안 모든 상영관의 슬롯 생성
+     */
+    public synchronized SlotGenerationResultDto generate(LocalDate from, int dayCount) {
+        if (dayCount < 1 || dayCount > 90) {
+            throw new IllegalArgumentException("생성 일수는 1~90일 사이여야 합니다.");
+        }
+        List<TheaterDto> theaters = theaterRegistry.getAllTheaters();
+        List<ScreenDto> screens = new ArrayList<>();
+        for (TheaterDto theater : theaters) {
+            screens.addAll(theaterRegistry.getScreensByTheater(theater.getId()));
+        }
+
+        long started = System.nanoTime();
+        long generated = 0;
+        long inserted = 0;
+        int failed = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+        try {
+            List<Future<int[]>> futures = new ArrayList<>(screens.size());
+            for (ScreenDto screen : screens) {
+                TheaterDto theater = theaterRegistry.getTheater(screen.getTheaterId());
+                futures.add(executor.submit(() -> generateForScreen(screen, theater, from, dayCount)));
+            }
+            for (Future<int[]> future : futures) {
+                try {
+                    int[] counts = future.get();
+                    generated += counts[0];
+                    inserted += counts[1];
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.warn("상영관 시간표 생성 실패: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시간표 생성이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        long skipped = generated - inserted;
+        insertedCounter.increment(inserted);
+        skippedCounter.increment(skipped);
+        failedScreenCounter.increment(failed);
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        long elapsedMs = elapsedNanos / 1_000_000;
+        double rowsPerSecond = elapsedMs > 0 ? generated * 1000.0 / elapsedMs : generated;
+        log.info("시간표 슬롯 생성 완료: {} ~ {}, 상영관 {}개(실패 {}), 생성 {}건 / 추가 {}건 / 중복 {}건, {}ms ({} rows/s)",
+                from, from.plusDays(dayCount - 1L), screens.size(), failed, generated, inserted, skipped,
+                elapsedMs, String.format("%.0f", rowsPerSecond));
+
+        return SlotGenerationResultDto.builder()
+                .fromDate(from)
+                .toDate(from.plusDays(dayCount - 1L))
+                .screenCount(screens.size())
+                .failedScreens(failed)
+                .generated(generated)
+                .inserted(inserted)
+                .skipped(skipped)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    /**
+     * 상영관 하나의 기간 내 슬롯 생성 후 배치 INSERT
+     * @return [생성 건수, 실제 추가 건수]
+     */
+    private int[] generateForScreen(ScreenDto screen, TheaterDto theater, LocalDate from, int dayCount) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < dayCount; i++) {
+            LocalDate date = from.plusDays(i);
+            // 상영관/날짜별 고정 시드: 같은 날짜를 다시 생성해도 같은 슬롯/영화 배정
+            Random random = new Random(screen.getId() * 31 + date.toEpochDay());
+
+            // 각 상영관/날짜별로 4~6개 시간대 랜덤 선택
+            List<TimeSlot> slots = new ArrayList<>(TIME_SLOTS);
+            Collections.shuffle(slots, random);
+            int count = 4 + random.nextInt(3);
+
+            for (TimeSlot slot : slots.subList(0, count)) {
+                LocalDateTime startTime = date.atTime(slot.start());
+                LocalDateTime endTime = startTime.plusMinutes(DURATION_MINUTES);
+                String movieId = movieIds[random.nextInt(movieIds.length)];
+
+                rows.add(new Object[]{
+                        movieId,
+                        screen.getId(),
+                        Timestamp.valueOf(startTime.minusHours(TIMEZONE_SHIFT_HOURS)),
+                        Timestamp.valueOf(endTime.minusHours(TIMEZONE_SHIFT_HOURS)),
+                        priceOf(slot.type(), date),
+                        screen.getTotalSeats(),
+                        theater.getRegion(),
+                        theater.getCity()
+                });
+            }
+        }
+
+        int inserted = 0;
+        for (int start = 0; start < rows.size(); start += batchSize) {
+            int[] results = jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(start, Math.min(start + batchSize, rows.size())));
+            for (int result : results) {
+                // INSERT IGNORE: 추가 1, 중복 0
+                if (result > 0) {
+                    inserted++;
+                }
+            }
+        }
+        return new int[]{rows.size(), inserted};
+    }
+
+    // 가격 정책 (금~일 및 공휴일은 주말 요금)
+    private static int priceOf(SlotType type, LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        boolean weekend = dayOfWeek == DayOfWeek.FRIDAY
+                || dayOfWeek == DayOfWeek.SATURDAY
+                || dayOfWeek == DayOfWeek.SUNDAY
+                || HOLIDAYS.contains(date);
+        return switch (type) {
+            case MORNING, LATE_NIGHT -> weekend ? 11000 : 10000;
+            case REGULAR -> weekend ? 15000 : 14000;
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package com.boot.service;
+
+import com.boot.elastic.Movie;
+import com.boot.entity.Showtime;
+import com.boot.event.ShowtimeSeatsChangedEvent;
+import com.boot.event.ShowtimesSyncedEvent;
+import com.boot.repository.ShowtimeRepository;
+import com.boot.repository.ShowtimeTimetableRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * 시간표 읽기 모델(showtime_timetable) 갱신 담당
+ * - 최초 실행 / 매일 새벽(영화 ETL 이후) 전체 재구성
+ * - 1분마다 변경된 시간표만 증분 동기화
+ * - 예매/취소 이벤트로 잔여 좌석 즉시 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShowtimeTimetableService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO showtime_timetable (showtime_id, movie_id, movie_title, poster_path, runtime, vote_average, " +
+            "start_time, end_time, price, available_seats, total_seats, theater_id, theater_name, theater_chain, " +
+            "theater_region, theater_address, screen_id, screen_name, screen_type, synced_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE movie_id = VALUES(movie_id), " +
+            // ES 조회 실패 시 기존 영화 정보를 null 로 덮어쓰지 않음
+            "movie_title = COALESCE(VALUES(movie_title), movie_title), " +
+            "poster_path = COALESCE(VALUES(poster_path), poster_path), " +
+            "runtime = COALESCE(VALUES(runtime), runtime), " +
+            "vote_average = COALESCE(VALUES(vote_average), vote_average), " +
+            "start_time = VALUES(start_time), end_time = VALUES(end_time), price = VALUES(price), " +
+            "available_seats = VALUES(available_seats), total_seats = VALUES(total_seats), " +
+            "theater_id = VALUES(theater_id), theater_name = VALUES(theater_name), theater_chain = VALUES(theater_chain), " +
+            "theater_region = VALUES(theater_region), theater_address = VALUES(theater_address), " +
+            "screen_id = VALUES(screen_id), screen_name = VALUES(screen_name), screen_type = VALUES(screen_type), " +
+            "synced_at = VALUES(synced_at)";
+
+    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeTimetableRepository timetableRepository;
+    private final MovieSearchService movieSearchService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    /**
+     * 1분마다 변경된 시간표 증분 동기화 (첫 실행 시 전체 재구성)
+     */
+    @Scheduled(initialDelay = 5000, fixedDelay = 60000)
+    public synchronized void syncChangedShowtimes() {
+        if (lastSyncedAt == null) {
+            rebuild();
+            return;
+        }
+        LocalDateTime syncedAt = LocalDateTime.now().withNano(0);
+        LocalDateTime from = syncedAt.toLocalDate().atStartOfDay();
+        // 트랜잭션 커밋 지연을 고려해 1분 겹쳐서 조회
+        LocalDateTime updatedSince = lastSyncedAt.minusMinutes(1);
+
+        int count = project(afterId -> showtimeRepository.findForTimetableSync(
+                from, updatedSince, afterId, PageRequest.of(0, BATCH_SIZE)), syncedAt);
+        lastSyncedAt = syncedAt;
+        if (count > 0) {
+            log.info("시간표 읽기 모델 증분 동기화: {}건", count);
+            eventPublisher.publishEvent(new ShowtimesSyncedEvent(count, syncedAt, false));
+        }
+    }
+
+    /**
+     * 전체 재구성 (매일 04:30, 영화 ETL 이후 영화 메타데이터 반영)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime syncedAt = LocalDateTime.now().withNano(0);
+        LocalDateTime from = syncedAt.toLocalDate().atStartOfDay();
+
+        int count = project(afterId -> showtimeRepository.findForTimetableRebuild(
+                from, afterId, PageRequest.of(0, BATCH_SIZE)), syncedAt);
+        // 이번 재구성에서 갱신되지 않은 행 = 원본에서 삭제되었거나 지난 시간표
+        int removed = jdbcTemplate.update("DELETE FROM showtime_timetable WHERE synced_at < ?",
+                Timestamp.valueOf(syncedAt));
+        lastSyncedAt = syncedAt;
+
+        log.info("시간표 읽기 모델 재구성 완료: {}건 반영, {}건 삭제, 소요 시간 = {} ms",
+                count, removed, System.currentTimeMillis() - start);
+        eventPublisher.publishEvent(new ShowtimesSyncedEvent(count, syncedAt, true));
+        return count;
+    }
+
+    /**
+     * 예매/취소 시 잔여 좌석 반영 (예매 트랜잭션에 참여)
+     */
+    @EventListener
+    @Transactional
+    public void onSeatsChanged(ShowtimeSeatsChangedEvent event) {
+        timetableRepository.updateAvailableSeats(event.showtimeId(), event.availableSeats());
+    }
+
+    private int project(LongFunction<List<Showtime>> chunkLoader, LocalDateTime syncedAt) {
+        Map<String, Movie> movieCache = new HashMap<>();
+        long afterId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Showtime> chunk = chunkLoader.apply(afterId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            loadMovies(chunk, movieCache);
+            jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(),
+                    (ps, showtime) -> bind(ps, showtime, movieCache.get(showtime.getMovieId()), syncedAt));
+
+            total += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // 청크에 등장한 영화 중 아직 조회하지 않은 것만 ES 에서 한 번에 조회
+    private void loadMovies(List<Showtime> chunk, Map<String, Movie> movieCache) {
+        List<String> missing = chunk.stream()
+                .map(Showtime::getMovieId)
+                .distinct()
+                .filter(movieId -> !movieCache.containsKey(movieId))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        missing.forEach(movieId -> movieCache.put(movieId, null));
+        List<String> elasticIds = missing.stream()
+                .map(movieId -> movieId.replace("tmdb_", ""))
+                .toList();
+        for (Movie movie : movieSearchService.getMoviesByIds(elasticIds)) {
+            movieCache.put("tmdb_" + movie.getId(), movie);
+        }
+    }
+
+    private void bind(PreparedStatement ps, Showtime showtime, Movie movie, LocalDateTime syncedAt) throws SQLException {
+        var screen = showtime.getScreen();
+        var theater = screen.getTheater();
+
+        ps.setLong(1, showtime.getId());
+        ps.setString(2, showtime.getMovieId());
+        ps.setString(3, movie != null ? movie.getTitle() : null);
+        ps.setString(4, movie != null ? movie.getPosterPath() : null);
+        if (movie != null && movie.getRuntime() != null) {
+            ps.setInt(5, movie.getRuntime());
+        } else {
+            ps.setNull(5, Types.INTEGER);
+        }
+        if (movie != null && movie.getVoteAverage() != null) {
+            ps.setDouble(6, movie.getVoteAverage().doubleValue());
+        } else {
+            ps.setNull(6, Types.DOUBLE);
+        }
+        ps.setTimestamp(7, Timestamp.valueOf(showtime.getStartTime()));
+        ps.setTimestamp(8, Timestamp.valueOf(showtime.getEndTime()));
+        ps.setInt(9, showtime.getPrice());
+        ps.setInt(10, showtime.getAvailableSeats());
+        ps.setInt(11, screen.getTotalSeats());
+        ps.setLong(12, theater.getId());
+        ps.setString(13, theater.getName());
+        ps.setString(14, theater.getChain());
+        ps.setString(15, theater.getRegion());
+        ps.setString(16, theater.getAddress());
+        ps.setLong(17, screen.getId());
+        ps.setString(18, screen.getName());
+        ps.setString(19, screen.getScreenType());
+        ps.setTimestamp(20, Timestamp.valueOf(syncedAt));
+    }
+}
@@ -0,0 +1,115 @@
+package com.boot.service;
+
+import com.boot.dto.NearbyTheaterDto;
+import com.boot.dto.TheaterDto;
+import com.boot.event.TheaterRegistryReloadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영화관 위치 기반 조회용 메모리 격자(grid) 인덱스
+ * - 위도/경도를 약 5km 크기 셀로 나눠 셀 단위로 영화관을 보관
+ * - 반경 조회 시 반경을 덮는 셀만 확인 후 하버사인 거리로 최종 필터/정렬
+ * - 영화관 레지스트리(TheaterRegistry)가 교체될 때마다 다시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TheaterGeoIndex {
+
+    private static final double CELL_DEGREES = 0.05;
+    private static final double KM_PER_DEGREE_LAT = 111.0;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double MAX_RADIUS_KM = 100.0;
+
+    private final TheaterRegistry theaterRegistry;
+
+    private volatile Map<Long, List<TheaterDto>> cells = Collections.emptyMap();
+
+    @EventListener
+    public void onRegistryReloaded(TheaterRegistryReloadedEvent event) {
+        rebuild(theaterRegistry.getAllTheaters());
+    }
+
+    /**
+     * 주어진 영화관 목록으로 인덱스 교체 (조회 중인 스레드는 이전 인덱스를 그대로 사용)
+     */
+    public int rebuild(List<TheaterDto> theaters) {
+        Map<Long, List<TheaterDto>> next = new HashMap<>();
+        int indexed = 0;
+        for (TheaterDto theater : theaters) {
+            if (theater.getLatitude() == null || theater.getLongitude() == null) {
+                continue;
+            }
+            long key = cellKey(cellIndex(theater.getLatitude()), cellIndex(theater.getLongitude()));
+            next.computeIfAbsent(key, k -> new ArrayList<>()).add(theater);
+            indexed++;
+        }
+        cells = next;
+        log.info("영화관 위치 인덱스 적재: {}개 영화관, {}개 셀", indexed, next.size());
+        return indexed;
+    }
+
+    /**
+     * 반경(km) 안의 영화관을 가까운 순으로 최대 limit 개 조회
+     */
+    public List<NearbyTheaterDto> findNearby(double lat, double lng, double radiusKm, int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("위도/경도 값이 올바르지 않습니다.");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다.");
+        }
+        double radius = Math.min(Math.max(radiusKm, 0), MAX_RADIUS_KM);
+
+        double dLat = radius / KM_PER_DEGREE_LAT;
+        double dLng = radius / (KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        Map<Long, List<TheaterDto>> snapshot = cells;
+        List<NearbyTheaterDto> result = new ArrayList<>();
+        for (int latIdx = cellIndex(lat - dLat); latIdx <= cellIndex(lat + dLat); latIdx++) {
+            for (int lngIdx = cellIndex(lng - dLng); lngIdx <= cellIndex(lng + dLng); lngIdx++) {
+                List<TheaterDto> cell = snapshot.get(cellKey(latIdx, lngIdx));
+                if (cell == null) {
+                    continue;
+                }
+                for (TheaterDto theater : cell) {
+                    double distance = distanceKm(lat, lng, theater.getLatitude(), theater.getLongitude());
+                    if (distance <= radius) {
+                        result.add(NearbyTheaterDto.of(theater, distance));
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparing(NearbyTheaterDto::getDistanceKm));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latIdx, int lngIdx) {
+        return ((long) latIdx << 32) | (lngIdx & 0xffffffffL);
+    }
+
+    // 하버사인 공식
+    private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,210 @@
+package com.boot.service;
+
+import com.boot.dto.ScreenDto;
+import com.boot.dto.TheaterDto;
+import com.boot.event.TheaterRegistryReloadedEvent;
+import com.boot.repository.ScreenRepository;
+import com.boot.repository.TheaterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 영화관/상영관 기준 정보 레지스트리 (메모리, 불변 스냅샷)
+ * - insert_theaters.py / insert_screens.py 실행 시에만 바뀌는 데이터라 시작 시 한 번 적재
+ * - 1분마다 theater/screen 테이블 지문(건수 + 최종 수정 시각)을 확인해 바뀌었을 때만 재적재
+ * - 지역/체인/도시 인덱스와 이름 접두어 검색 인덱스를 미리 계산
+ * - 시간표/예매 서비스가 Screen.theater 지연 로딩 대신 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TheaterRegistry {
+
+    private static final String FINGERPRINT_SQL =
+            "SELECT CONCAT((SELECT COUNT(*) FROM theater), ':', " +
+            "(SELECT COALESCE(MAX(updated_at), '') FROM theater), ':', " +
+            "(SELECT COUNT(*) FROM screen), ':', " +
+            "(SELECT COALESCE(MAX(updated_at), '') FROM screen))";
+
+    private final TheaterRepository theaterRepository;
+    private final ScreenRepository screenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    private record Snapshot(long version,
+                            String fingerprint,
+                            LocalDateTime loadedAt,
+                            List<TheaterDto> theaters,
+                            Map<Long, TheaterDto> theatersById,
+                            Map<Long, ScreenDto> screensById,
+                            Map<Long, List<ScreenDto>> screensByTheater,
+                            Map<String, List<TheaterDto>> byRegion,
+                            Map<String, List<TheaterDto>> byChain,
+                            Map<String, List<TheaterDto>> byCity,
+                            NavigableMap<String, List<TheaterDto>> byNameToken) {
+
+        static Snapshot empty() {
+            return new Snapshot(0L, null, null, List.of(), Map.of(), Map.of(), Map.of(),
+                    Map.of(), Map.of(), Map.of(), new TreeMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 1분마다 변경 여부 확인 후 바뀌었으면 재적재
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void reloadIfChanged() {
+        String fingerprint = jdbcTemplate.queryForObject(FINGERPRINT_SQL, String.class);
+        if (!Objects.equals(fingerprint, snapshot.fingerprint())) {
+            log.info("영화관/상영관 데이터 변경 감지, 레지스트리 재적재");
+            reload();
+        }
+    }
+
+    /**
+     * DB에서 영화관/상영관을 다시 읽어 새 스냅샷으로 교체
+     */
+    public synchronized long reload() {
+        String fingerprint = jdbcTemplate.queryForObject(FINGERPRINT_SQL, String.class);
+
+        List<TheaterDto> theaters = theaterRepository.findAll().stream()
+                .map(TheaterDto::fromEntity)
+                .toList();
+        List<ScreenDto> screens = screenRepository.findAllWithTheater().stream()
+                .map(ScreenDto::fromEntity)
+                .toList();
+
+        Map<Long, TheaterDto> theatersById = new HashMap<>();
+        Map<String, List<TheaterDto>> byRegion = new HashMap<>();
+        Map<String, List<TheaterDto>> byChain = new HashMap<>();
+        Map<String, List<TheaterDto>> byCity = new HashMap<>();
+        NavigableMap<String, List<TheaterDto>> byNameToken = new TreeMap<>();
+        for (TheaterDto theater : theaters) {
+            theatersById.put(theater.getId(), theater);
+            byRegion.computeIfAbsent(theater.getRegion(), k -> new ArrayList<>()).add(theater);
+            byChain.computeIfAbsent(theater.getChain(), k -> new ArrayList<>()).add(theater);
+            byCity.computeIfAbsent(theater.getCity(), k -> new ArrayList<>()).add(theater);
+            // 전체 이름 + 공백 단위 토큰 모두 색인 ("CGV 강남" → "cgv 강남", "cgv", "강남")
+            String name = normalize(theater.getName());
+            Set<String> tokens = new LinkedHashSet<>();
+            tokens.add(name);
+            tokens.addAll(List.of(name.split("\\s+")));
+            for (String token : tokens) {
+                if (!token.isEmpty()) {
+                    byNameToken.computeIfAbsent(token, k -> new ArrayList<>()).add(theater);
+                }
+            }
+        }
+
+        Map<Long, ScreenDto> screensById = new HashMap<>();
+        Map<Long, List<ScreenDto>> screensByTheater = new HashMap<>();
+        for (ScreenDto screen : screens) {
+            screensById.put(screen.getId(), screen);
+            screensByTheater.computeIfAbsent(screen.getTheaterId(), k -> new ArrayList<>()).add(screen);
+        }
+
+        long version = versionSequence.incrementAndGet();
+        snapshot = new Snapshot(version, fingerprint, LocalDateTime.now(),
+                List.copyOf(theaters),
+                Map.copyOf(theatersById),
+                Map.copyOf(screensById),
+                copyOfLists(screensByTheater),
+                copyOfLists(byRegion),
+                copyOfLists(byChain),
+                copyOfLists(byCity),
+                new TreeMap<>(copyOfLists(byNameToken)));
+
+        log.info("영화관 레지스트리 적재: version={}, 영화관 {}개, 상영관 {}개", version, theaters.size(), screens.size());
+        eventPublisher.publishEvent(new TheaterRegistryReloadedEvent(version));
+        return version;
+    }
+
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    public List<TheaterDto> getAllTheaters() {
+        return snapshot.theaters();
+    }
+
+    public TheaterDto getTheater(Long theaterId) {
+        return snapshot.theatersById().get(theaterId);
+    }
+
+    public ScreenDto getScreen(Long screenId) {
+        return snapshot.screensById().get(screenId);
+    }
+
+    public List<ScreenDto> getScreensByTheater(Long theaterId) {
+        return snapshot.screensByTheater().getOrDefault(theaterId, List.of());
+    }
+
+    public List<TheaterDto> getTheatersByRegion(String region) {
+        return snapshot.byRegion().getOrDefault(region, List.of());
+    }
+
+    public List<TheaterDto> getTheatersByChain(String chain) {
+        return snapshot.byChain().getOrDefault(chain, List.of());
+    }
+
+    public List<TheaterDto> getTheatersByCity(String city) {
+        return snapshot.byCity().getOrDefault(city, List.of());
+    }
+
+    /**
+     * 영화관 이름 접두어 검색 (이름 전체 또는 공백 단위 단어 기준, 대소문자 무시)
+     */
+    public List<TheaterDto> searchByNamePrefix(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Set<TheaterDto> result = new LinkedHashSet<>();
+        for (List<TheaterDto> matches : snapshot.byNameToken().subMap(key, true, key + Character.MAX_VALUE, true).values()) {
+            for (TheaterDto theater : matches) {
+                result.add(theater);
+                if (result.size() >= limit) {
+                    return List.copyOf(result);
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <K, V> Map<K, List<V>> copyOfLists(Map<K, List<V>> source) {
+        Map<K, List<V>> copy = new HashMap<>();
+        source.forEach((key, values) -> copy.put(key, List.copyOf(values)));
+        return Map.copyOf(copy);
+    }
+}
@@ -1,64 +1,92 @@
 package com.boot.service;
 
+import com.boot.dto.NearbyTheaterDto;
+import com.boot.dto.ScreenDto;
 import com.boot.dto.TheaterDto;
-import com.boot.entity.Theater;
-import com.boot.repository.TheaterRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class TheaterService {
-    
-    private final TheaterRepository theaterRepository;
+
+    private static final int MAX_NEARBY_LIMIT = 50;
+
+    private final TheaterRegistry theaterRegistry;
+    private final TheaterGeoIndex theaterGeoIndex;
 
     /**
      * 전체 영화관 목록 조회
      */
     public List<TheaterDto> getAllTheaters() {
-        return theaterRepository.findAll().stream()
-                .map(TheaterDto::fromEntity)
-                .collect(Collectors.toList());
+        return theaterRegistry.getAllTheaters();
     }
 
     /**
      * 특정 영화관 조회
      */
     public TheaterDto getTheaterById(Long theaterId) {
-        Theater theater = theaterRepository.findById(theaterId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영화관입니다."));
-        return TheaterDto.fromEntity(theater);
+        TheaterDto theater = theaterRegistry.getTheater(theaterId);
+        if (theater == null) {
+            throw new IllegalArgumentException("존재하지 않는 영화관입니다.");
+        }
+        return theater;
     }
 
     /**
      * 지역별 영화관 조회
      */
     public List<TheaterDto> getTheatersByRegion(String region) {
-        return theaterRepository.findByRegion(region).stream()
-                .map(TheaterDto::fromEntity)
-                .collect(Collectors.toList());
+        return theaterRegistry.getTheatersByRegion(region);
     }
 
     /**
      * 체인별 영화관 조회
      */
     public List<TheaterDto> getTheatersByChain(String chain) {
-        return theaterRepository.findByChain(chain).stream()
-                .map(TheaterDto::fromEntity)
-                .collect(Collectors.toList());
+        return theaterRegistry.getTheatersByChain(chain);
     }
 
     /**
      * 지역 + 체인으로 영화관 조회
      */
     public List<TheaterDto> getTheatersByRegionAndChain(String region, String chain) {
-        return theaterRepository.findByRegionAndChain(region, chain).stream()
-                .map(TheaterDto::fromEntity)
+        return theaterRegistry.getTheatersByRegion(region).stream()
+                .filter(theater -> chain.equals(theater.getChain()))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 도시별 영화관 조회
+     */
+    public List<TheaterDto> getTheatersByCity(String city) {
+        return theaterRegistry.getTheatersByCity(city);
+    }
+
+    /**
+     * 영화관 이름 검색 (접두어 일치)
+     */
+    public List<TheaterDto> searchTheaters(String query, int limit) {
+        return theaterRegistry.searchByNamePrefix(query, limit);
+    }
+
+    /**
+     * 영화관의 상영관 목록 조회
+     */
+    public List<ScreenDto> getScreensByTheater(Long theaterId) {
+        return theaterRegistry.getScreensByTheater(theaterId);
+    }
+
+    /**
+     * 위치 기반 주변 영화관 조회 (메모리 위치 인덱스 사용, 가까운 순)
+     */
+    public List<NearbyTheaterDto> getNearbyTheaters(double lat, double lng, double radiusKm, int limit) {
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_NEARBY_LIMIT + " 사이여야 합니다.");
+        }
+        return theaterGeoIndex.findNearby(lat, lng, radiusKm, limit);
+    }
 }
@@ -2,48 +2,261 @@ package com.boot.service;
 
 import com.boot.entity.TmdbReviewEntity;
 import com.boot.repository.TmdbReviewRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * TMDB 리뷰 번역 스케줄러
+ * - 번역 안 된 리뷰를 SELECT ... FOR UPDATE SKIP LOCKED 로 골라 점유(lease) 표시 후 처리
+ *   → 여러 노드/워커가 동시에 돌아도 서로 다른 행을 가져가며, 노드가 죽으면 lease 만료 후 다른 워커가 재점유
+ * - 점유한 리뷰를 토큰 예산(max-input-tokens) / 최대 건수 안에서 묶어 한 번의 LLM 호출로 번역
+ * - 배치들은 translationExecutor 에서 병렬 실행 (동시 배치 수 = review-translation.parallelism)
+ * - 결과는 한 번의 JDBC batch update 로 반영
+ * - 점유할 때마다 시도 횟수를 올리고, 실패한 행은 시도 횟수에 따라 지수적으로 늘어나는 대기 후 재시도
+ *   (max-attempts 에 도달한 행은 배치 번역 대상에서 빠지고 조회 시 즉석 번역에만 맡김)
+ * - 처리량(counter) / 남은 번역 대기 건수(gauge) 메트릭 노출
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TmdbReviewTranslateScheduler {
 
+    // 점유 가능한 번역 대기 행 (다른 트랜잭션이 잠근 행은 건너뜀)
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT id FROM tmdb_reviews " +
+            "WHERE translated_content IS NULL " +
+            "AND translation_attempts < ? " +
+            "AND (translation_claimed_until IS NULL OR translation_claimed_until < ?) " +
+            "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL =
+            "UPDATE tmdb_reviews SET translation_claimed_by = ?, translation_claimed_until = ?, " +
+            "translation_attempts = translation_attempts + 1 WHERE id = ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE tmdb_reviews SET translated_content = ?, updated_at = ?, " +
+            "translation_claimed_by = NULL, translation_claimed_until = NULL " +
+            "WHERE id = ? AND translated_content IS NULL";
+
+    // 번역 실패 행은 점유 해제 후 대기 시각 설정: base x 2^(시도 횟수 - 1) 초, 최대 max 초 뒤에 아무 워커나 재시도
+    private static final String RELEASE_SQL =
+            "UPDATE tmdb_reviews SET translation_claimed_by = NULL, " +
+            "translation_claimed_until = DATE_ADD(?, INTERVAL LEAST(? * POW(2, translation_attempts - 1), ?) SECOND) " +
+            "WHERE id = ? AND translation_claimed_by = ?";
+
     private final TmdbReviewRepository tmdbReviewRepository;
     private final ReviewTranslationService reviewTranslationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService translationExecutor;
+    // 이 인스턴스의 워커 식별자 (점유 표시용)
+    private final String workerId = "translate-" + UUID.randomUUID();
+
+    private final Counter translatedCounter;
+    private final Counter failedCounter;
+    private final Counter claimedCounter;
+    private final Counter exhaustedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong backlogGauge = new AtomicLong();
+
+    @Value("${review-translation.fetch-size:200}")
+    private int fetchSize;
+
+    @Value("${review-translation.claim-lease-seconds:300}")
+    private long claimLeaseSeconds;
+
+    @Value("${review-translation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${review-translation.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    @Value("${review-translation.retry-backoff-max-seconds:3600}")
+    private long retryBackoffMaxSeconds;
+
+    @Value("${review-translation.batch.max-items:20}")
+    private int maxItemsPerBatch;
+
+    @Value("${review-translation.batch.max-input-tokens:1500}")
+    private int maxInputTokens;
+
+    public TmdbReviewTranslateScheduler(TmdbReviewRepository tmdbReviewRepository,
+                                        ReviewTranslationService reviewTranslationService,
+                                        JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        @Qualifier("translationExecutor") ExecutorService translationExecutor,
+                                        MeterRegistry meterRegistry) {
+        this.tmdbReviewRepository = tmdbReviewRepository;
+        this.reviewTranslationService = reviewTranslationService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.translationExecutor = translationExecutor;
+        this.translatedCounter = meterRegistry.counter("review.translation.reviews", "result", "translated");
+        this.failedCounter = meterRegistry.counter("review.translation.reviews", "result", "failed");
+        this.claimedCounter = meterRegistry.counter("review.translation.claimed");
+        this.exhaustedCounter = meterRegistry.counter("review.translation.exhausted");
+        this.batchTimer = meterRegistry.timer("review.translation.batch");
+        meterRegistry.gauge("review.translation.backlog", backlogGauge);
+    }
 
     /**
-     * 30초마다 번역 안 된 TMDB 리뷰 최대 100개씩 번역
+     * 30초마다 번역 안 된 TMDB 리뷰를 fetch-size 만큼 점유해 일괄 번역
      */
     @Scheduled(fixedDelay = 30000)
     public void translatePendingReviews() {
-        List<TmdbReviewEntity> pending =
-                tmdbReviewRepository.findTop100ByTranslatedContentIsNullOrderByCreatedAtAsc();
+        List<Long> claimedIds = claim();
+        List<TmdbReviewEntity> pending = claimedIds.isEmpty()
+                ? List.of()
+                : tmdbReviewRepository.findAllById(claimedIds);
 
         if (pending.isEmpty()) {
+            // 다른 워커가 점유 중이거나 재시도 대기 중인 행도 대기 건수에 포함
+            backlogGauge.set(countBacklog());
             return;
         }
 
-        log.info("번역 대기 TMDB 리뷰 {}건 처리 시작", pending.size());
+        long start = System.currentTimeMillis();
+        List<List<TmdbReviewEntity>> batches = partition(pending);
+        log.info("번역 대기 TMDB 리뷰 {}건 처리 시작 (배치 {}개)", pending.size(), batches.size());
+
+        List<CompletableFuture<Map<Long, String>>> futures = batches.stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> translateBatch(batch), translationExecutor))
+                .toList();
+
+        Map<Long, String> translated = new HashMap<>();
+        futures.forEach(future -> translated.putAll(future.join()));
+
+        int updated = writeBack(translated);
+        release(pending.stream()
+                .filter(review -> !translated.containsKey(review.getId()))
+                .toList());
+        translatedCounter.increment(updated);
+        failedCounter.increment(pending.size() - translated.size());
+        backlogGauge.set(countBacklog());
+
+        log.info("번역 처리 완료: 성공 {}건 / 대상 {}건, 소요 시간 {} ms, 남은 대기 {}건",
+                updated, pending.size(), System.currentTimeMillis() - start, backlogGauge.get());
+    }
 
-        for (TmdbReviewEntity e : pending) {
-            String translated = reviewTranslationService.translateToKorean(e.getOriginalContent());
-            if (translated == null) {
-                log.warn("번역 실패: reviewId={}, movieId={}", e.getId(), e.getMovieId());
-                continue;
+    // 재시도 한도를 넘긴 행은 더 이상 처리하지 않으므로 대기 건수에서 제외
+    private long countBacklog() {
+        return tmdbReviewRepository.countByTranslatedContentIsNullAndTranslationAttemptsLessThan(maxAttempts);
+    }
+
+    // 짧은 트랜잭션 안에서 SKIP LOCKED 로 행을 골라 lease 기록 (LLM 호출 동안 DB 락을 잡지 않음)
+    private List<Long> claim() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> selected = jdbcTemplate.queryForList(
+                    SELECT_CLAIMABLE_SQL, Long.class, maxAttempts, Timestamp.valueOf(now), fetchSize);
+            if (selected.isEmpty()) {
+                return selected;
+            }
+            Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(claimLeaseSeconds));
+            jdbcTemplate.batchUpdate(CLAIM_SQL, selected.stream()
+                    .map(id -> new Object[]{workerId, leaseUntil, id})
+                    .toList());
+            return selected;
+        });
+        claimedCounter.increment(ids.size());
+        return ids;
+    }
+
+    // 실패 행 점유 해제 + 재시도 대기 (findAllById 로 읽은 시도 횟수는 이번 점유분이 반영된 값)
+    private void release(List<TmdbReviewEntity> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(RELEASE_SQL, failed.stream()
+                .map(review -> new Object[]{now, retryBackoffSeconds, retryBackoffMaxSeconds, review.getId(), workerId})
+                .toList());
+        List<Long> exhausted = failed.stream()
+                .filter(review -> review.getTranslationAttempts() >= maxAttempts)
+                .map(TmdbReviewEntity::getId)
+                .toList();
+        if (!exhausted.isEmpty()) {
+            exhaustedCounter.increment(exhausted.size());
+            log.warn("번역 재시도 {}회 초과로 배치 번역 대상에서 제외: reviewIds={}", maxAttempts, exhausted);
+        }
+    }
+
+    // 토큰 예산과 최대 건수를 넘지 않도록 순서대로 묶음 (예산보다 큰 리뷰는 단독 배치)
+    private List<List<TmdbReviewEntity>> partition(List<TmdbReviewEntity> reviews) {
+        List<List<TmdbReviewEntity>> batches = new ArrayList<>();
+        List<TmdbReviewEntity> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (TmdbReviewEntity review : reviews) {
+            int tokens = ReviewTranslationService.estimateTokens(review.getOriginalContent());
+            if (!current.isEmpty()
+                    && (current.size() >= maxItemsPerBatch || currentTokens + tokens > maxInputTokens)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
             }
+            current.add(review);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
 
-            e.setTranslatedContent(translated);
-            e.setUpdatedAt(LocalDateTime.now());
-            tmdbReviewRepository.save(e);
+    private Map<Long, String> translateBatch(List<TmdbReviewEntity> batch) {
+        Map<Long, String> results = new HashMap<>();
+        try {
+            List<String> translated = batchTimer.record(() -> reviewTranslationService.translateBatchToKorean(
+                    batch.stream().map(TmdbReviewEntity::getOriginalContent).toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                String text = translated.get(i);
+                if (text == null) {
+                    log.warn("번역 실패: reviewId={}, movieId={}", batch.get(i).getId(), batch.get(i).getMovieId());
+                    continue;
+                }
+                results.put(batch.get(i).getId(), text);
+            }
+        } catch (RuntimeException e) {
+            log.error("번역 배치 처리 실패 ({}건): {}", batch.size(), e.getMessage(), e);
         }
+        return results;
+    }
 
-        log.info("번역 처리 완료");
+    // 즉석 번역(ExternalReviewService)과 겹쳐도 이미 번역된 행은 덮어쓰지 않음
+    private int writeBack(Map<Long, String> translated) {
+        if (translated.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = translated.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), now, entry.getKey()})
+                .toList();
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+        int updated = 0;
+        for (int count : counts) {
+            // 드라이버가 건수 대신 SUCCESS_NO_INFO(-2)를 줄 수 있음
+            updated += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+        }
+        return updated;
     }
 }
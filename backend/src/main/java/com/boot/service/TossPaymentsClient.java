@@ -0,0 +1,97 @@
+package com.boot.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 API 호출 전용 클라이언트
+ * - 트랜잭션 밖에서만 호출 (DB 커넥션을 잡은 채로 PG 응답을 기다리지 않음)
+ * - base-url 을 바꿔 로컬 스텁(toss-stub 프로필)으로 대체 가능
+ */
+@Component
+public class TossPaymentsClient {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${toss.payments.secret.key:test_sk_zXLkKEypNArWmo50nX3lmeaxYG5R}")
+    private String tossSecretKey;
+
+    @Value("${toss.payments.base-url:https://api.tosspayments.com}")
+    private String baseUrl;
+
+    public TossPaymentsClient(@Qualifier("tossRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * 결제 승인 (orderId 를 멱등 키로 사용해 재시도해도 중복 승인되지 않음)
+     */
+    public Map<String, Object> confirm(String paymentKey, String orderId, Integer amount) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+
+        HttpHeaders headers = headers();
+        headers.set("Idempotency-Key", "confirm-" + orderId);
+        return post("/v1/payments/confirm", body, headers);
+    }
+
+    /**
+     * 결제 취소
+     */
+    public Map<String, Object> cancel(String paymentKey, String cancelReason) {
+        return cancel(paymentKey, cancelReason, "cancel-" + paymentKey);
+    }
+
+    /**
+     * 결제 취소 (호출 측 멱등 키 지정, 환불 아웃박스 재시도용)
+     */
+    public Map<String, Object> cancel(String paymentKey, String cancelReason, String idempotencyKey) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("cancelReason", cancelReason);
+
+        HttpHeaders headers = headers();
+        headers.set("Idempotency-Key", idempotencyKey);
+        return post("/v1/payments/" + paymentKey + "/cancel", body, headers);
+    }
+
+    /**
+     * 결제 조회 (승인 결과를 알 수 없는 결제의 최종 상태 확인용)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getPayment(String paymentKey) {
+        ResponseEntity<Map> response = restTemplate.exchange(
+                baseUrl + "/v1/payments/" + paymentKey, HttpMethod.GET, new HttpEntity<>(headers()), Map.class);
+        return response.getBody();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> post(String path, Map<String, Object> body, HttpHeaders headers) {
+        ResponseEntity<Map> response = restTemplate.exchange(
+                baseUrl + path, HttpMethod.POST, new HttpEntity<>(body, headers), Map.class);
+        return response.getBody();
+    }
+
+    private HttpHeaders headers() {
+        String auth = tossSecretKey + ":";
+        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Basic " + encodedAuth);
+        return headers;
+    }
+}
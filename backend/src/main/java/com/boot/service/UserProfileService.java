@@ -1,12 +1,12 @@
 package com.boot.service;
 
 import com.boot.dto.ReviewResponseDto;
+import com.boot.dto.UserIdentity;
 import com.boot.dto.UserProfileDto;
 import com.boot.dto.WatchlistMovieDto; // WatchlistMovieDto 임포트
 import com.boot.entity.User;
+import com.boot.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +18,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserProfileService {
 
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
+    private final UserRepository userRepository;
     private final FavoriteService favoriteService;
     private final RatingService ratingService;
     private final ReviewService reviewService;
@@ -26,20 +27,21 @@ public class UserProfileService {
 
     @Transactional(readOnly = true)
     public UserProfileDto getUserProfile() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
+        String userEmail = currentUserService.getCurrentEmail();
+        if (userEmail == null) {
             throw new IllegalStateException("로그인된 사용자 정보를 찾을 수 없습니다.");
         }
-        String userEmail = authentication.getName();
-        User currentUser = userService.findByEmail(userEmail)
+        // 현재 사용자 캐시 사용 (리뷰 조회용 User 는 id 만 가진 프록시)
+        UserIdentity identity = currentUserService.findIdentity(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + userEmail));
+        User currentUser = userRepository.getReferenceById(identity.id());
 
-        UserProfileDto profileDto = UserProfileDto.fromUser(currentUser);
+        UserProfileDto profileDto = UserProfileDto.fromIdentity(identity);
 
         // favoriteService.getFavoriteMovieIds()가 이제 List<String>을 반환하므로 map(Object::toString) 제거
-        profileDto.setFavoriteMovieIds(favoriteService.getFavoriteMovieIds(currentUser.getEmail()));
+        profileDto.setFavoriteMovieIds(favoriteService.getFavoriteMovieIds(userEmail));
 
-        profileDto.setRatedMovies(ratingService.getUserRatings(currentUser.getEmail()));
+        profileDto.setRatedMovies(ratingService.getUserRatings(userEmail));
 
         profileDto.setReviews(reviewService.findByUser(currentUser).stream()
                 .map(ReviewResponseDto::fromEntity)
@@ -2,13 +2,17 @@ package com.boot.service;
 
 import com.boot.dto.TokenInfo;
 import com.boot.dto.UserAdminDto;
+import com.boot.dto.UserIdentity;
 import com.boot.dto.UserSignUpDto;
 import com.boot.entity.User;
 import com.boot.entity.VerificationToken;
+import com.boot.event.UserChangedEvent;
 import com.boot.jwt.JwtTokenProvider;
+import com.boot.jwt.JwtUserPrincipal;
 import com.boot.repository.UserRepository;
 import com.boot.repository.VerificationTokenRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -32,6 +36,7 @@ public class UserService {
     private final EmailService emailService;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 이메일로 사용자 조회 (ReviewService에서 사용)
     @Transactional(readOnly = true)
@@ -64,7 +69,7 @@ public class UserService {
         VerificationToken verificationToken = new VerificationToken(token, savedUser);
         tokenRepository.save(verificationToken);
 
-        // 이메일 발송
+        // 이메일 발송 (메일 큐 등록, 실제 발송은 비동기)
         String subject = "[Movie Project] 회원가입 이메일 인증";
         String verificationLink = "http://localhost:8484/api/user/verify?token=" + token;
         String emailBody = "<h1>회원가입을 완료하려면 아래 링크를 클릭하세요.</h1>" +
@@ -88,8 +93,8 @@ public class UserService {
         // 3. 실제 검증 (사용자 비밀번호 체크)
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
 
-        // 4. 인증 정보를 기반으로 JWT 토큰 생성
-        return jwtTokenProvider.generateToken(authentication);
+        // 4. 인증 정보를 기반으로 JWT 토큰 생성 (성인 여부를 연령대 클레임으로 포함)
+        return jwtTokenProvider.generateToken(authentication, JwtUserPrincipal.ageBandOf(user.getAge() >= UserIdentity.ADULT_AGE));
     }
 
     @Transactional
@@ -107,6 +112,7 @@ public class UserService {
         }
         user.enable(); // User 엔티티의 enabled 필드를 true로 변경
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
     }
 
     @Transactional
@@ -121,6 +127,7 @@ public class UserService {
         tokenRepository.deleteByUser(user);
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
     }
 
     // 관리자용: 모든 사용자 조회
@@ -141,5 +148,6 @@ public class UserService {
         tokenRepository.deleteByUser(user);
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
     }
 }
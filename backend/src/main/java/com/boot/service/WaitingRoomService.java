@@ -0,0 +1,266 @@
+package com.boot.service;
+
+import com.boot.dto.WaitingRoomStatusDto;
+import com.boot.repository.ShowtimeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 예매 오픈 트래픽 대응용 가상 대기실
+ * - 핫 모드로 지정된 영화/시간표에 대해서만 대기열(Redis ZSET, FIFO)을 운영
+ * - 스케줄러가 초당 설정된 인원만큼 입장 토큰을 발급
+ * - 예매 API 는 핫 모드 대상일 때만 유효한 입장 토큰을 요구 (검증과 소진은 Lua 로 원자적으로 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private static final String HOT_TARGETS_KEY = "waiting:hot";
+    private static final String QUEUE_KEY_PREFIX = "waiting:queue:";
+    private static final String SEQ_KEY_PREFIX = "waiting:seq:";
+    private static final String MEMBER_KEY_PREFIX = "waiting:member:";
+    private static final String ADMITTED_KEY_PREFIX = "waiting:admitted:";
+    private static final String TOKEN_KEY_PREFIX = "waiting:token:";
+    private static final String TICK_LOCK_PREFIX = "waiting:tick:";
+    private static final Duration MEMBER_TIMEOUT = Duration.ofHours(1);
+
+    // 입장 토큰이 대상과 일치하면 남은 TTL(ms, 만료 없음이면 -1)을 반환하고 삭제, 아니면 -3
+    private static final DefaultRedisScript<Long> CLAIM_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return -3 end " +
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return ttl",
+            Long.class);
+
+    /**
+     * 예매 요청이 점유한 입장 토큰 (핫 모드 대상이 아니면 token 이 null)
+     */
+    public record AdmissionClaim(String token, String target, long ttlMillis) {
+        static final AdmissionClaim NOT_REQUIRED = new AdmissionClaim(null, null, 0);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ShowtimeRepository showtimeRepository;
+
+    @Value("${waiting-room.admit-per-second:50}")
+    private int admitPerSecond;
+
+    @Value("${waiting-room.token-ttl-seconds:600}")
+    private long tokenTtlSeconds;
+
+    // 핫 모드 대상 로컬 스냅샷 (매 틱마다 갱신, 핫 모드가 아닐 때 예매 경로에서 Redis 조회를 생략)
+    private volatile Set<String> hotTargets = Collections.emptySet();
+
+    /**
+     * 핫 모드 지정 (movieId 또는 showtimeId 중 하나)
+     */
+    public String enableHotMode(String movieId, Long showtimeId) {
+        String target = toTarget(movieId, showtimeId);
+        redisTemplate.opsForSet().add(HOT_TARGETS_KEY, target);
+        refreshHotTargets();
+        log.info("대기열 핫 모드 지정: {}", target);
+        return target;
+    }
+
+    /**
+     * 핫 모드 해제 (대기 중인 사용자는 OPEN 상태로 전환됨)
+     */
+    public String disableHotMode(String movieId, Long showtimeId) {
+        String target = toTarget(movieId, showtimeId);
+        redisTemplate.opsForSet().remove(HOT_TARGETS_KEY, target);
+        redisTemplate.delete(QUEUE_KEY_PREFIX + target);
+        redisTemplate.delete(SEQ_KEY_PREFIX + target);
+        refreshHotTargets();
+        log.info("대기열 핫 모드 해제: {}", target);
+        return target;
+    }
+
+    public Set<String> getHotTargets() {
+        Set<String> members = redisTemplate.opsForSet().members(HOT_TARGETS_KEY);
+        return members != null ? members : Collections.emptySet();
+    }
+
+    /**
+     * 대기열 진입
+     */
+    public WaitingRoomStatusDto enter(Long showtimeId) {
+        String target = resolveHotTarget(showtimeId);
+        if (target == null) {
+            return WaitingRoomStatusDto.builder().status("OPEN").build();
+        }
+
+        String queueId = UUID.randomUUID().toString();
+        Long seq = redisTemplate.opsForValue().increment(SEQ_KEY_PREFIX + target);
+        redisTemplate.opsForZSet().add(QUEUE_KEY_PREFIX + target, queueId, seq != null ? seq : 0);
+        redisTemplate.opsForValue().set(MEMBER_KEY_PREFIX + queueId, target, MEMBER_TIMEOUT);
+
+        return getStatus(queueId);
+    }
+
+    /**
+     * 대기 순번 / 예상 대기 시간 / 입장 토큰 조회 (클라이언트 폴링용)
+     */
+    public WaitingRoomStatusDto getStatus(String queueId) {
+        String target = redisTemplate.opsForValue().get(MEMBER_KEY_PREFIX + queueId);
+        if (target == null) {
+            return WaitingRoomStatusDto.builder().queueId(queueId).status("EXPIRED").build();
+        }
+
+        String token = redisTemplate.opsForValue().get(ADMITTED_KEY_PREFIX + queueId);
+        if (token != null) {
+            return WaitingRoomStatusDto.builder()
+                    .queueId(queueId)
+                    .status("ADMITTED")
+                    .position(0L)
+                    .etaSeconds(0L)
+                    .admissionToken(token)
+                    .build();
+        }
+
+        if (!Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(HOT_TARGETS_KEY, target))) {
+            return WaitingRoomStatusDto.builder().queueId(queueId).status("OPEN").build();
+        }
+
+        Long rank = redisTemplate.opsForZSet().rank(QUEUE_KEY_PREFIX + target, queueId);
+        if (rank == null) {
+            return WaitingRoomStatusDto.builder().queueId(queueId).status("EXPIRED").build();
+        }
+
+        long rate = Math.max(admitPerSecond, 1);
+        return WaitingRoomStatusDto.builder()
+                .queueId(queueId)
+                .status("WAITING")
+                .position(rank)
+                .etaSeconds(rank / rate + 1)
+                .build();
+    }
+
+    /**
+     * 예매 요청의 입장 토큰 검증 + 소진을 한 번에 처리 (핫 모드 대상이 아니면 항상 통과)
+     * - 같은 토큰으로 동시에 들어온 요청 중 하나만 점유에 성공
+     * - 예매가 실패하면 restoreAdmission 으로 토큰을 되돌려 재시도 가능하게 함
+     *
+     * @return 점유 결과, 토큰이 없거나 유효하지 않으면 null
+     */
+    public AdmissionClaim claimAdmission(Long showtimeId, String admissionToken) {
+        if (showtimeId == null) {
+            return AdmissionClaim.NOT_REQUIRED;
+        }
+        String target = resolveHotTarget(showtimeId);
+        if (target == null) {
+            return AdmissionClaim.NOT_REQUIRED;
+        }
+        if (admissionToken == null || admissionToken.isBlank()) {
+            return null;
+        }
+        Long ttl = redisTemplate.execute(CLAIM_TOKEN_SCRIPT, List.of(TOKEN_KEY_PREFIX + admissionToken), target);
+        if (ttl == null || ttl == -3) {
+            return null;
+        }
+        return new AdmissionClaim(admissionToken, target, ttl);
+    }
+
+    /**
+     * 예매 실패 시 점유했던 입장 토큰 복구 (남아 있던 TTL 유지)
+     */
+    public void restoreAdmission(AdmissionClaim claim) {
+        if (claim == null || claim.token() == null) {
+            return;
+        }
+        try {
+            if (claim.ttlMillis() > 0) {
+                redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + claim.token(), claim.target(),
+                        Duration.ofMillis(claim.ttlMillis()));
+            } else if (claim.ttlMillis() == -1) {
+                redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + claim.token(), claim.target());
+            }
+        } catch (DataAccessException e) {
+            log.warn("입장 토큰 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 1초마다 핫 모드 대기열 앞에서부터 admitPerSecond 명씩 입장 토큰 발급
+     * 여러 노드가 떠 있어도 초당 한 노드만 발급하도록 Redis 락(초 단위 키)을 사용
+     * 다른 스케줄 작업(PG 호출, 야간 배치 등)에 밀리지 않도록 전용 스케줄러 스레드에서 실행
+     */
+    @Scheduled(fixedDelay = 1000, scheduler = "admissionScheduler")
+    public void admitWaitingUsers() {
+        try {
+            refreshHotTargets();
+            Set<String> targets = hotTargets;
+            if (targets.isEmpty()) {
+                return;
+            }
+
+            String tickKey = TICK_LOCK_PREFIX + Instant.now().getEpochSecond();
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(tickKey, "1", Duration.ofSeconds(2));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+
+            Duration tokenTtl = Duration.ofSeconds(tokenTtlSeconds);
+            for (String target : targets) {
+                Set<ZSetOperations.TypedTuple<String>> admitted =
+                        redisTemplate.opsForZSet().popMin(QUEUE_KEY_PREFIX + target, admitPerSecond);
+                if (admitted == null || admitted.isEmpty()) {
+                    continue;
+                }
+                for (ZSetOperations.TypedTuple<String> entry : admitted) {
+                    String token = UUID.randomUUID().toString();
+                    redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + token, target, tokenTtl);
+                    redisTemplate.opsForValue().set(ADMITTED_KEY_PREFIX + entry.getValue(), token, tokenTtl);
+                }
+                log.debug("대기열 입장 처리: target={}, count={}", target, admitted.size());
+            }
+        } catch (DataAccessException e) {
+            log.debug("대기열 입장 처리 실패 (Redis 연결 확인 필요): {}", e.getMessage());
+        }
+    }
+
+    private void refreshHotTargets() {
+        hotTargets = new HashSet<>(getHotTargets());
+    }
+
+    private String resolveHotTarget(Long showtimeId) {
+        Set<String> targets = hotTargets;
+        if (targets.isEmpty()) {
+            return null;
+        }
+        String showtimeTarget = "showtime:" + showtimeId;
+        if (targets.contains(showtimeTarget)) {
+            return showtimeTarget;
+        }
+        return showtimeRepository.findMovieIdById(showtimeId)
+                .map(movieId -> "movie:" + movieId)
+                .filter(targets::contains)
+                .orElse(null);
+    }
+
+    private String toTarget(String movieId, Long showtimeId) {
+        if (showtimeId != null) {
+            return "showtime:" + showtimeId;
+        }
+        if (movieId == null || movieId.isBlank()) {
+            throw new IllegalArgumentException("movieId 또는 showtimeId 가 필요합니다.");
+        }
+        // showtime.movie_id 는 "tmdb_" 접두사를 사용
+        return "movie:" + (movieId.startsWith("tmdb_") ? movieId : "tmdb_" + movieId);
+    }
+}
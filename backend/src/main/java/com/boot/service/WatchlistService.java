@@ -20,7 +20,7 @@ import java.util.stream.Collectors;
 public class WatchlistService {
 
     private final WatchlistRepository watchlistRepository;
-    private final UserService userService;
+    private final CurrentUserService currentUserService;
 
     // 현재 로그인한 사용자 정보 가져오기
     private User getCurrentUser() {
@@ -29,7 +29,7 @@ public class WatchlistService {
             throw new IllegalStateException("로그인된 사용자 정보를 찾을 수 없습니다.");
         }
         String userEmail = authentication.getName();
-        return userService.findByEmail(userEmail)
+        return currentUserService.findUserReference(userEmail)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다: " + userEmail));
     }
 
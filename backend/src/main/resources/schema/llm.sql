@@ -0,0 +1,9 @@
+-- LLM 응답 캐시 2차 저장소 (llm.cache.mysql-spill=true 일 때 LlmResponseCache 가 사용)
+CREATE TABLE IF NOT EXISTS llm_response_cache (
+    cache_key CHAR(64) PRIMARY KEY,
+    use_case VARCHAR(50) NOT NULL,
+    content MEDIUMTEXT NOT NULL,
+    expires_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL,
+    INDEX idx_lrc_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -22,3 +22,21 @@ CREATE TABLE IF NOT EXISTS payments (
     INDEX idx_status (status),
     INDEX idx_created_at (created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='결제 정보';
+
+-- 결제 후속 처리 아웃박스 (예매 취소 → 비동기 환불)
+CREATE TABLE IF NOT EXISTS payment_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL COMMENT '이벤트 종류 (PAYMENT_CANCEL)',
+    idempotency_key VARCHAR(200) NOT NULL UNIQUE COMMENT 'PG 멱등 키',
+    payment_key VARCHAR(200) NOT NULL COMMENT '토스페이먼츠 결제 키',
+    booking_id BIGINT COMMENT '예매 ID',
+    reason VARCHAR(255) COMMENT '취소 사유',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '처리 상태 (PENDING, DONE, FAILED)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '시도 횟수',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 처리 시각',
+    last_error VARCHAR(1000) COMMENT '마지막 오류',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
+    processed_at DATETIME COMMENT '처리 완료 일시',
+
+    INDEX idx_po_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='결제 아웃박스';
@@ -76,4 +76,134 @@ JOIN screen sc ON s.screen_id = sc.id
 JOIN theater t ON sc.theater_id = t.id
 SET s.region = t.region,
     s.city = t.city
-WHERE s.region IS NULL OR s.city IS NULL;
\ No newline at end of file
+WHERE s.region IS NULL OR s.city IS NULL;
+
+-- 시간표 슬롯 생성기 멱등성 보장 (같은 상영관/같은 시작 시각 중복 방지, Showtime 엔티티에도 선언)
+-- 이미 있으면 건너뜀 (재실행 가능)
+SET @ddl := (SELECT IF(COUNT(*) = 0,
+    'ALTER TABLE showtime ADD UNIQUE INDEX uk_showtime_screen_start (screen_id, start_time)',
+    'SELECT 1')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'showtime' AND index_name = 'uk_showtime_screen_start');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 시간표 조회용 비정규화 테이블 (showtime + screen + theater + 영화 메타데이터)
+CREATE TABLE IF NOT EXISTS showtime_timetable (
+    showtime_id BIGINT PRIMARY KEY,
+    movie_id VARCHAR(50) NOT NULL,
+    movie_title VARCHAR(255),
+    poster_path VARCHAR(255),
+    runtime INT,
+    vote_average DOUBLE,
+    start_time DATETIME NOT NULL,
+    end_time DATETIME NOT NULL,
+    price INT NOT NULL,
+    available_seats INT NOT NULL,
+    total_seats INT NOT NULL,
+    theater_id BIGINT NOT NULL,
+    theater_name VARCHAR(100),
+    theater_chain VARCHAR(50),
+    theater_region VARCHAR(50),
+    theater_address VARCHAR(255),
+    screen_id BIGINT NOT NULL,
+    screen_name VARCHAR(50),
+    screen_type VARCHAR(50),
+    synced_at DATETIME NOT NULL,
+    INDEX idx_tt_movie_start (movie_id, start_time),
+    INDEX idx_tt_theater_start (theater_id, start_time),
+    INDEX idx_tt_region_movie_start (theater_region, movie_id, start_time),
+    INDEX idx_tt_chain_movie_start (theater_chain, movie_id, start_time),
+    INDEX idx_tt_synced_at (synced_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 사용자별 예매 내역 키셋 페이지 조회용 (user_id, created_at, id 역순 스캔, InnoDB 보조 인덱스는 PK(id)를 포함)
+-- Booking 엔티티에도 선언, 이미 있으면 건너뜀 (재실행 가능)
+SET @ddl := (SELECT IF(COUNT(*) = 0,
+    'ALTER TABLE booking ADD INDEX idx_booking_user_created (user_id, created_at)',
+    'SELECT 1')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'booking' AND index_name = 'idx_booking_user_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 상영 종료 시간표/예매 보관 테이블 (ShowtimeArchiveService 가 청크 단위로 이동)
+CREATE TABLE IF NOT EXISTS showtime_archive (
+    id BIGINT PRIMARY KEY,
+    movie_id VARCHAR(50) NOT NULL,
+    screen_id BIGINT NOT NULL,
+    start_time DATETIME NOT NULL,
+    end_time DATETIME NOT NULL,
+    price INT NOT NULL,
+    available_seats INT NOT NULL,
+    region VARCHAR(50),
+    city VARCHAR(50),
+    created_at TIMESTAMP NULL,
+    archived_at DATETIME NOT NULL,
+    INDEX idx_sa_start_time (start_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS booking_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    showtime_id BIGINT NOT NULL,
+    seats TEXT NOT NULL,
+    seat_count INT NOT NULL,
+    total_price INT NOT NULL,
+    booking_status VARCHAR(20) NOT NULL,
+    created_at DATETIME,
+    updated_at DATETIME,
+    archived_at DATETIME NOT NULL,
+    INDEX idx_ba_user_created (user_id, created_at),
+    INDEX idx_ba_showtime_id (showtime_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 관리자 판매/점유율 통계 롤업 (SalesRollupService 가 sales_rollup_delta 를 주기적으로 합산해 갱신)
+CREATE TABLE IF NOT EXISTS showtime_sales_rollup (
+    showtime_id BIGINT PRIMARY KEY,
+    show_date DATE NOT NULL,
+    movie_id VARCHAR(50) NOT NULL,
+    theater_id BIGINT NOT NULL,
+    total_seats INT NOT NULL,
+    seats_sold BIGINT NOT NULL DEFAULT 0,
+    revenue BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL,
+    INDEX idx_ssr_date_movie (show_date, movie_id),
+    INDEX idx_ssr_date_theater (show_date, theater_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS daily_sales_rollup (
+    show_date DATE NOT NULL,
+    movie_id VARCHAR(50) NOT NULL,
+    theater_id BIGINT NOT NULL,
+    seats_sold BIGINT NOT NULL DEFAULT 0,
+    revenue BIGINT NOT NULL DEFAULT 0,
+    capacity BIGINT NOT NULL DEFAULT 0,
+    showtime_count INT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (show_date, movie_id, theater_id),
+    INDEX idx_dsr_movie_date (movie_id, show_date),
+    INDEX idx_dsr_theater_date (theater_id, show_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 예매 생성/취소 증분 로그 (예매 트랜잭션 안에서 INSERT, 반영 후 삭제)
+CREATE TABLE IF NOT EXISTS sales_rollup_delta (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    showtime_id BIGINT NOT NULL,
+    show_date DATE NOT NULL,
+    movie_id VARCHAR(50) NOT NULL,
+    theater_id BIGINT NOT NULL,
+    total_seats INT NOT NULL,
+    seat_delta INT NOT NULL,
+    revenue_delta BIGINT NOT NULL,
+    created_at DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 롤업 쓰기(증분 반영/보정/재구성) 직렬화용 락 행
+CREATE TABLE IF NOT EXISTS sales_rollup_lock (
+    id TINYINT PRIMARY KEY
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO sales_rollup_lock (id) VALUES (1);
@@ -0,0 +1,126 @@
+package com.boot.service;
+
+import com.boot.entity.MailQueue;
+import com.boot.repository.MailQueueRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MailDispatcher 발송 결과 반영 테스트 (GreenMail 내장 SMTP 서버 사용)
+ */
+class MailDispatcherTest {
+
+    @RegisterExtension
+    GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailQueueRepository mailQueueRepository = mock(MailQueueRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<MailDispatcher> dispatchers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        dispatchers.forEach(MailDispatcher::shutdown);
+    }
+
+    @Test
+    void sendsWholeBatchOverSmtp() {
+        List<MailQueue> due = List.of(mail(1L, "a@test.com"), mail(2L, "b@test.com"), mail(3L, "c@test.com"),
+                mail(4L, "d@test.com"), mail(5L, "e@test.com"), mail(6L, "f@test.com"));
+        MailDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort(), 2);
+        givenClaimed(dispatcher, due);
+
+        dispatcher.dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(6);
+        assertThat(due).allSatisfy(mail -> assertThat(mail.getStatus()).isEqualTo(MailQueue.Status.SENT));
+    }
+
+    @Test
+    void failedChunkIsRetriedInsteadOfMarkedSent() {
+        // 두 번째 묶음(3, 4번)은 수신자가 없어 묶음 작업 자체가 예외로 끝남
+        List<MailQueue> due = List.of(mail(1L, "a@test.com"), mail(2L, "b@test.com"),
+                mail(3L, "c@test.com"), mail(4L, null));
+        MailDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort(), 2);
+        givenClaimed(dispatcher, due);
+
+        dispatcher.dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(due.subList(0, 2)).allSatisfy(mail -> assertThat(mail.getStatus()).isEqualTo(MailQueue.Status.SENT));
+        assertThat(due.subList(2, 4)).allSatisfy(mail -> {
+            assertThat(mail.getStatus()).isEqualTo(MailQueue.Status.PENDING);
+            assertThat(mail.getAttempts()).isEqualTo(1);
+            assertThat(mail.getLastError()).isNotBlank();
+        });
+    }
+
+    @Test
+    void smtpUnavailableSchedulesRetryForAll() {
+        List<MailQueue> due = List.of(mail(1L, "a@test.com"), mail(2L, "b@test.com"));
+        MailDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 2);
+        givenClaimed(dispatcher, due);
+        greenMail.stop();
+
+        dispatcher.dispatch();
+
+        assertThat(due).allSatisfy(mail -> {
+            assertThat(mail.getStatus()).isEqualTo(MailQueue.Status.PENDING);
+            assertThat(mail.getAttempts()).isEqualTo(1);
+        });
+    }
+
+    // 점유 쿼리가 due 를 돌려주고, 각 행은 이 디스패처가 점유한 상태
+    private void givenClaimed(MailDispatcher dispatcher, List<MailQueue> due) {
+        String workerId = (String) ReflectionTestUtils.getField(dispatcher, "workerId");
+        due.forEach(mail -> ReflectionTestUtils.setField(mail, "claimedBy", workerId));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any()))
+                .thenReturn(due.stream().map(MailQueue::getId).toList());
+        when(mailQueueRepository.findAllById(any())).thenReturn(due);
+    }
+
+    private MailDispatcher dispatcher(int port, int threads) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+
+        MailDispatcher dispatcher = new MailDispatcher(mailQueueRepository, sender,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), jdbcTemplate, new SimpleMeterRegistry(), threads);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "claimLeaseSeconds", 300L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 8);
+        ReflectionTestUtils.setField(dispatcher, "baseBackoffSeconds", 10L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffSeconds", 3600L);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private MailQueue mail(Long id, String recipient) {
+        MailQueue mail = MailQueue.builder()
+                .mailType(EmailService.TYPE_VERIFICATION)
+                .recipient(recipient)
+                .subject("인증 메일")
+                .body("<p>본문</p>")
+                .build();
+        ReflectionTestUtils.setField(mail, "id", id);
+        return mail;
+    }
+}
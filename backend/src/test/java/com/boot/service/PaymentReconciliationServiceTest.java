@@ -0,0 +1,242 @@
+package com.boot.service;
+
+import com.boot.entity.ReconciliationCheckpoint;
+import com.boot.repository.ReconciliationCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PaymentReconciliationService 페이지 병합/체크포인트 테스트
+ * - JdbcTemplate 은 메모리의 예매/결제 목록을 각 SQL 의 키셋 조건대로 잘라 돌려주는 목으로 대체
+ */
+class PaymentReconciliationServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ReconciliationCheckpointRepository checkpointRepository = mock(ReconciliationCheckpointRepository.class);
+
+    private final List<Booking> bookings = new ArrayList<>();
+    private final List<Payment> payments = new ArrayList<>();
+    // 기록된 불일치 ("유형:예매 ID:결제 ID")
+    private final List<String> discrepancies = new ArrayList<>();
+
+    private PaymentReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(this::query).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> discrepancies.add(row[1] + ":" + row[2] + ":" + row[3]));
+            return new int[rows.size()];
+        });
+        when(checkpointRepository.findById(any())).thenReturn(Optional.empty());
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service = new PaymentReconciliationService(jdbcTemplate, checkpointRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(service, "pageSize", 2);
+        ReflectionTestUtils.setField(service, "pagePauseMs", 0L);
+    }
+
+    @Test
+    void duplicatePaymentsOfLastBookingInPageAreNotSplitAcrossPages() {
+        // 페이지 크기 2: 2번 예매가 첫 페이지의 마지막 예매
+        booking(1, "CONFIRMED", 10000);
+        booking(2, "CONFIRMED", 10000);
+        booking(3, "CONFIRMED", 10000);
+        payment(10, 1, 10000);
+        payment(20, 2, 10000);
+        payment(21, 2, 10000);
+        payment(30, 3, 10000);
+
+        service.reconcile(false);
+
+        assertThat(discrepancies).containsExactly("DUPLICATE_PAYMENT:2:21");
+    }
+
+    @Test
+    void reportsEveryExtraPaymentOfOneBooking() {
+        booking(1, "CONFIRMED", 10000);
+        booking(2, "CONFIRMED", 12000);
+        payment(10, 1, 10000);
+        payment(11, 1, 10000);
+        payment(12, 1, 10000);
+        payment(20, 2, 9000);
+
+        service.reconcile(false);
+
+        assertThat(discrepancies).containsExactly(
+                "DUPLICATE_PAYMENT:1:11", "DUPLICATE_PAYMENT:1:12", "AMOUNT_MISMATCH:2:20");
+    }
+
+    @Test
+    void pagesOrphanPaymentsAfterLastBookingWithoutSkippingOrRepeating() {
+        booking(1, "CONFIRMED", 10000);
+        booking(2, "CANCELED", 10000);
+        payment(10, 1, 10000);
+        // 마지막 예매(2번) 이후의 결제: 5번 예매 결제 3건이 결제 페이지(2건) 경계에 걸침
+        payment(50, 5, 10000);
+        payment(51, 5, 10000);
+        payment(52, 5, 10000);
+        payment(60, 6, 10000);
+
+        service.reconcile(false);
+
+        assertThat(discrepancies).containsExactly(
+                "PAYMENT_WITHOUT_BOOKING:5:50", "PAYMENT_WITHOUT_BOOKING:5:51",
+                "PAYMENT_WITHOUT_BOOKING:5:52", "PAYMENT_WITHOUT_BOOKING:6:60");
+    }
+
+    @Test
+    void resumesBookingPagesFromSavedCheckpoint() {
+        booking(1, "CONFIRMED", 10000);
+        booking(2, "CONFIRMED", 10000);
+        booking(3, "CONFIRMED", 10000);
+        payment(30, 3, 10000);
+        payment(31, 3, 10000);
+        // 2번 예매까지 처리된 실행 (1번의 결제 누락은 이미 기록됨)
+        ReconciliationCheckpoint checkpoint = runningCheckpoint("run-1", 2, 0);
+
+        String runId = service.reconcile(false);
+
+        assertThat(runId).isEqualTo("run-1");
+        assertThat(discrepancies).containsExactly("DUPLICATE_PAYMENT:3:31");
+        assertThat(checkpoint.getStatus()).isEqualTo(ReconciliationCheckpoint.Status.COMPLETED);
+        assertThat(checkpoint.getLastKey()).isEqualTo(3L);
+    }
+
+    @Test
+    void resumesOrphanPaymentPagesInsideOneBooking() {
+        booking(1, "CONFIRMED", 10000);
+        payment(10, 1, 10000);
+        payment(50, 5, 10000);
+        payment(51, 5, 10000);
+        payment(52, 5, 10000);
+        // 예매 없는 결제 처리 중 5번 예매의 50번 결제까지 처리하고 중단된 실행
+        runningCheckpoint("run-1", 5, 50);
+
+        service.reconcile(false);
+
+        assertThat(discrepancies).containsExactly("PAYMENT_WITHOUT_BOOKING:5:51", "PAYMENT_WITHOUT_BOOKING:5:52");
+    }
+
+    @Test
+    void restartIgnoresSavedCheckpoint() {
+        booking(1, "CONFIRMED", 10000);
+        booking(3, "CONFIRMED", 10000);
+        payment(30, 3, 10000);
+        runningCheckpoint("run-1", 2, 0);
+
+        String runId = service.reconcile(true);
+
+        assertThat(runId).isNotEqualTo("run-1");
+        assertThat(discrepancies).containsExactly("BOOKING_WITHOUT_PAYMENT:1:null");
+    }
+
+    private ReconciliationCheckpoint runningCheckpoint(String runId, long lastKey, long lastSubKey) {
+        ReconciliationCheckpoint checkpoint = new ReconciliationCheckpoint("payment-booking");
+        checkpoint.start(runId);
+        checkpoint.advance(lastKey, lastSubKey, 0);
+        when(checkpointRepository.findById("payment-booking")).thenReturn(Optional.of(checkpoint));
+        return checkpoint;
+    }
+
+    // SQL 별 키셋 조건을 메모리 목록에 적용 (인자 순서는 PaymentReconciliationService 의 쿼리와 동일)
+    private List<Object> query(InvocationOnMock invocation) throws SQLException {
+        String sql = invocation.getArgument(0);
+        RowMapper<?> rowMapper = invocation.getArgument(1);
+        Object[] args = invocation.getArguments();
+
+        List<ResultSet> rows = new ArrayList<>();
+        if (sql.contains("booking_status")) {
+            // (cursor, limit, cursor, limit, limit)
+            long cursor = (Long) args[2];
+            int limit = (Integer) args[3];
+            for (Booking booking : bookings.stream().filter(b -> b.id() > cursor).limit(limit).toList()) {
+                rows.add(bookingRow(booking));
+            }
+        } else if (sql.contains("booking_id <= ?")) {
+            // (lower, upper]
+            long lower = (Long) args[2];
+            long upper = (Long) args[3];
+            for (Payment payment : sortedPayments().stream()
+                    .filter(p -> p.bookingId() > lower && p.bookingId() <= upper).toList()) {
+                rows.add(paymentRow(payment));
+            }
+        } else {
+            // (booking_id, id) > (cursor, afterId)
+            long cursor = (Long) args[2];
+            long afterId = (Long) args[4];
+            int limit = (Integer) args[5];
+            for (Payment payment : sortedPayments().stream()
+                    .filter(p -> p.bookingId() > cursor || (p.bookingId() == cursor && p.id() > afterId))
+                    .limit(limit).toList()) {
+                rows.add(paymentRow(payment));
+            }
+        }
+
+        List<Object> mapped = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            mapped.add(rowMapper.mapRow(rows.get(i), i));
+        }
+        return mapped;
+    }
+
+    private List<Payment> sortedPayments() {
+        return payments.stream()
+                .sorted(Comparator.comparingLong(Payment::bookingId).thenComparingLong(Payment::id))
+                .toList();
+    }
+
+    private void booking(long id, String status, Integer amount) {
+        bookings.add(new Booking(id, status, amount));
+    }
+
+    private void payment(long id, long bookingId, Integer amount) {
+        payments.add(new Payment(id, bookingId, amount));
+    }
+
+    private static ResultSet bookingRow(Booking booking) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(booking.id());
+        when(rs.getString("booking_status")).thenReturn(booking.status());
+        when(rs.getObject("total_price")).thenReturn(booking.amount());
+        return rs;
+    }
+
+    private static ResultSet paymentRow(Payment payment) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(payment.id());
+        when(rs.getLong("booking_id")).thenReturn(payment.bookingId());
+        when(rs.getString("status")).thenReturn("DONE");
+        when(rs.getObject("amount")).thenReturn(payment.amount());
+        return rs;
+    }
+
+    private record Booking(long id, String status, Integer amount) {
+    }
+
+    private record Payment(long id, long bookingId, Integer amount) {
+    }
+}